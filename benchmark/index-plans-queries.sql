@@ -0,0 +1,31 @@
+-- Queries captured by index-plans.sql; mirrors the SQL Hibernate emits for the repositories.
+
+-- WalletRepository.findAllByUser
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM wallets w WHERE w.user_id = :bench_user;
+
+-- TransactionRepository.findByWalletWalletIdInAndTransactionDateBetween (one week)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM transactions t
+WHERE t.wallet_id IN (SELECT wallet_id FROM wallets WHERE user_id = :bench_user)
+  AND t.transaction_date BETWEEN timestamp '2024-03-04' AND timestamp '2024-03-10 23:59:59';
+
+-- BudgetRepository.findByCategoryAndWalletAndStartDateLessThanEqualAndEndDateGreaterThanEqual
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM budgets b
+WHERE b.category_id = (SELECT category_id FROM bench_pairs LIMIT 1)
+  AND b.wallet_id = (SELECT wallet_id FROM bench_pairs LIMIT 1)
+  AND b.start_date <= timestamp '2021-06-15' AND b.end_date >= timestamp '2021-06-15';
+
+-- SavingGoalRepository.findByCategoryAndWalletAndStartDateLessThanEqualAndEndDateGreaterThanEqual
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM "saving_goals" g
+WHERE g.category_id = (SELECT category_id FROM bench_pairs LIMIT 1)
+  AND g.wallet_id = (SELECT wallet_id FROM bench_pairs LIMIT 1)
+  AND g.start_date <= timestamp '2021-06-15' AND g.end_date >= timestamp '2021-06-15';
+
+-- BudgetRepository.findOverlappingByWalletIds
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM budgets b
+WHERE b.wallet_id IN (SELECT wallet_id FROM wallets WHERE user_id = :bench_user)
+  AND b.start_date <= timestamp '2021-06-30' AND b.end_date >= timestamp '2021-06-01';
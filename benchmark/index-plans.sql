@@ -0,0 +1,77 @@
+-- Query-plan benchmark for the transaction/budget/saving-goal indexes.
+--
+-- Run against a SCRATCH database whose schema was created by booting the app once:
+--   psql "$DB_URL" -v ON_ERROR_STOP=1 -f benchmark/index-plans.sql > bench_output.txt
+--
+-- Seeds 1,000 users x 5 wallets x 20 categories and 10,000,000 transactions spread over
+-- five years, then captures EXPLAIN (ANALYZE, BUFFERS) for the hot statistics/budget queries
+-- without the indexes and again after creating them.
+
+\timing on
+
+-- ---------------------------------------------------------------- seed
+TRUNCATE transactions, budgets, "saving_goals", daily_wallet_category_totals, categories, wallets, user_roles, users CASCADE;
+
+INSERT INTO users (id, first_name, last_name, username, email, password, enabled, created_at, updated_at)
+SELECT gen_random_uuid(), 'Bench', 'User' || g, 'bench' || g, 'bench' || g || '@example.com',
+       repeat('x', 60), true, now(), now()
+FROM generate_series(1, 1000) g;
+
+INSERT INTO wallets (wallet_id, wallet_name, balance, user_id)
+SELECT gen_random_uuid(), 'Wallet ' || w, 0, u.id
+FROM users u CROSS JOIN generate_series(1, 5) w;
+
+INSERT INTO categories (category_id, name, created_at, user_id)
+SELECT gen_random_uuid(), 'Category ' || c, now(), u.id
+FROM users u CROSS JOIN generate_series(1, 20) c;
+
+CREATE TEMP TABLE bench_pairs AS
+SELECT row_number() OVER () AS n, w.wallet_id, c.category_id
+FROM wallets w JOIN categories c ON c.user_id = w.user_id;
+
+INSERT INTO transactions (transaction_id, amount, description, transaction_date, type, wallet_id, category_id)
+SELECT gen_random_uuid(),
+       (random() * 1000000)::numeric(38, 2),
+       'Bench transaction ' || g,
+       timestamp '2021-01-01' + random() * interval '5 years',
+       CASE WHEN random() < 0.3 THEN 'Income' ELSE 'Expense' END,
+       p.wallet_id, p.category_id
+FROM generate_series(1, 10000000) g
+JOIN bench_pairs p ON p.n = 1 + (g % (SELECT count(*) FROM bench_pairs));
+
+INSERT INTO budgets (budget_id, category_id, wallet_id, description, limit_amount, current_spending, start_date, end_date, created_at)
+SELECT gen_random_uuid(), p.category_id, p.wallet_id, 'Bench budget', 5000000, 0,
+       timestamp '2021-01-01' + (m || ' months')::interval,
+       timestamp '2021-01-01' + ((m + 1) || ' months')::interval - interval '1 second',
+       now()
+FROM bench_pairs p CROSS JOIN generate_series(0, 11) m;
+
+INSERT INTO "saving_goals" (saving_goal_id, category_id, wallet_id, description, target_amount, saved_amount, start_date, end_date, created_at)
+SELECT budget_id, category_id, wallet_id, description, limit_amount, 0, start_date, end_date, created_at
+FROM budgets;
+
+ANALYZE;
+
+-- ---------------------------------------------------------------- plans
+\set bench_user '(SELECT id FROM users WHERE username = ''bench42'')'
+
+DROP INDEX IF EXISTS idx_transactions_wallet_date, idx_transactions_category, idx_wallets_user,
+    idx_categories_user, idx_budgets_category_wallet_period, idx_budgets_wallet_period,
+    idx_saving_goals_category_wallet_period, idx_saving_goals_wallet_period, idx_group_members_user;
+
+\echo '==================== BEFORE (no secondary indexes) ===================='
+\ir index-plans-queries.sql
+
+CREATE INDEX idx_transactions_wallet_date ON transactions (wallet_id, transaction_date);
+CREATE INDEX idx_transactions_category ON transactions (category_id);
+CREATE INDEX idx_wallets_user ON wallets (user_id);
+CREATE INDEX idx_categories_user ON categories (user_id);
+CREATE INDEX idx_budgets_category_wallet_period ON budgets (category_id, wallet_id, start_date, end_date);
+CREATE INDEX idx_budgets_wallet_period ON budgets (wallet_id, start_date, end_date);
+CREATE INDEX idx_saving_goals_category_wallet_period ON "saving_goals" (category_id, wallet_id, start_date, end_date);
+CREATE INDEX idx_saving_goals_wallet_period ON "saving_goals" (wallet_id, start_date, end_date);
+CREATE INDEX idx_group_members_user ON group_members (user_id);
+ANALYZE;
+
+\echo '==================== AFTER (with indexes) ===================='
+\ir index-plans-queries.sql
@@ -0,0 +1,27 @@
+package JavaProject.MoneyWise.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+// Exposes the description search functions from migration V4 to JPQL/Criteria queries.
+// Registered through META-INF/services/org.hibernate.boot.model.FunctionContributor.
+public class SearchFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        var typeRegistry = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+        BasicType<String> stringType = typeRegistry.resolve(StandardBasicTypes.STRING);
+        BasicType<Boolean> booleanType = typeRegistry.resolve(StandardBasicTypes.BOOLEAN);
+        BasicType<Double> doubleType = typeRegistry.resolve(StandardBasicTypes.DOUBLE);
+
+        var functionRegistry = functionContributions.getFunctionRegistry();
+        functionRegistry.registerPattern("unaccent_lower",
+                "immutable_unaccent(lower(?1))", stringType);
+        functionRegistry.registerPattern("description_matches",
+                "(transaction_search_vector(?1) @@ transaction_search_query(?2))", booleanType);
+        functionRegistry.registerPattern("description_rank",
+                "ts_rank(transaction_search_vector(?1), transaction_search_query(?2))", doubleType);
+    }
+}
@@ -1,16 +1,22 @@
 package JavaProject.MoneyWise.controllers;
 
+import JavaProject.MoneyWise.services.DailyTotalService;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
+@RequiredArgsConstructor
 @RequestMapping("/api/Admin")
 @Tag(name = "Admin")
 public class AdminController {
+    private final DailyTotalService dailyTotalService;
 
     @GetMapping("/dashboard")
     @SecurityRequirement(name = "bearerAuth")
@@ -18,4 +24,14 @@ public class AdminController {
     public String adminDashboard() {
         return "Welcome to the admin dashboard!";
     }
+
+    // Recomputes the daily statistics rollup from the transactions table; the initial backfill is done by migration V1_1,
+    // so this is only for repairing drift
+    @PostMapping("/daily-totals/rebuild")
+    @SecurityRequirement(name = "bearerAuth")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Integer> rebuildDailyTotals() {
+        int buckets = dailyTotalService.rebuildDailyTotals();
+        return ResponseEntity.ok(buckets);
+    }
 }
@@ -1,27 +1,29 @@
 package JavaProject.MoneyWise.controllers;
 
-import JavaProject.MoneyWise.helper.CurrencyConverter;
 import JavaProject.MoneyWise.models.dtos.report.ReportInfoDTO;
-import JavaProject.MoneyWise.models.dtos.statistic.CashFlowSummaryDTO;
-import JavaProject.MoneyWise.services.StatisticService;
+import JavaProject.MoneyWise.models.dtos.report.ReportJobDTO;
+import JavaProject.MoneyWise.models.enums.ReportJobStatus;
+import JavaProject.MoneyWise.services.PreparedReport;
+import JavaProject.MoneyWise.services.ReportExporter;
+import JavaProject.MoneyWise.services.ReportJobService;
+import JavaProject.MoneyWise.services.ReportService;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import net.sf.jasperreports.engine.*;
-import net.sf.jasperreports.engine.data.JRBeanCollectionDataSource;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
-import java.math.BigDecimal;
-import java.util.*;
+import java.util.Optional;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/Reports")
@@ -30,87 +32,42 @@ import java.util.*;
 public class ReportsController {
 
     @Autowired
-    private StatisticService statisticService;
+    private ReportService reportService;
 
     @Autowired
-    private CurrencyConverter currencyConverter;
+    private ReportJobService reportJobService;
 
     private static final Logger logger = LoggerFactory.getLogger(ReportsController.class);
 
+    // PDF by default; CSV, XLSX or JSON when the Accept header (or the format field) asks for it
     @PostMapping("/generate")
-    public ResponseEntity<ByteArrayResource> generateReport(
+    public ResponseEntity<StreamingResponseBody> generateReport(
             @Valid @RequestBody ReportInfoDTO reportInfo,
-            @RequestHeader(value = "Accept-Language", required = false) String acceptLanguage) {
+            @RequestHeader(value = "Accept-Language", required = false) String acceptLanguage,
+            @RequestHeader(value = "Accept", required = false) String accept) {
         try {
-            if (reportInfo.getEndDate() != null) {
-                if (reportInfo.getStartDate().isAfter(reportInfo.getEndDate()))
-                    throw new IllegalArgumentException("Start date must not be after end date");
-            }
-
-            // Pass acceptLanguage to service for localized report data
-            Object reportData = statisticService.generateReportData(reportInfo, acceptLanguage);
-
-            String currency = reportInfo.getCurrency() != null ? reportInfo.getCurrency().toUpperCase() : "VND";
-            if (!currency.equals("VND") && !currency.equals("USD")) {
-                throw new IllegalArgumentException("Unsupported currency: " + currency);
-            }
-            if ("USD".equalsIgnoreCase(currency)) {
-                BigDecimal exchangeRate = currencyConverter.fetchExchangeRate();
-                reportData = currencyConverter.convertForUSDReport(reportData, exchangeRate, reportInfo.getType());
-            }
-
-            // Determine report path
-            String languageCode = acceptLanguage != null ? acceptLanguage.split(",")[0].split("-")[0] : "en";
-            String reportType = reportInfo.getType().toLowerCase();
-            String jasperPath = "reports/" + reportType + ".jasper";
-            ClassPathResource jasperResource = new ClassPathResource(jasperPath);
-
-            if (!jasperResource.exists()) {
-                throw new IllegalArgumentException("Jasper file not found: " + jasperPath);
-            }
-
-            // Parameters for report
-            Map<String, Object> parameters = new HashMap<>();
-            parameters.put("startDate", reportInfo.getStartDate());
-            parameters.put("endDate", reportInfo.getEndDate());
-            parameters.put("currencySymbol", currency);
-            parameters.put("languageCode", languageCode);
-            parameters.put("currencyConverter", currencyConverter);
-
-            JasperPrint jasperPrint;
-            if ("cash-flow".equalsIgnoreCase(reportInfo.getType()) && reportData instanceof CashFlowSummaryDTO cashFlow) {
-                parameters.put("cashFlowData", cashFlow);
-                jasperPrint = JasperFillManager.fillReport(jasperResource.getInputStream(), parameters, new JREmptyDataSource());
-            } else {
-                JRBeanCollectionDataSource dataSource;
-                if (reportData instanceof List) {
-                    dataSource = new JRBeanCollectionDataSource((List<?>) reportData);
-                } else {
-                    dataSource = new JRBeanCollectionDataSource(List.of(reportData));
-                }
-                jasperPrint = JasperFillManager.fillReport(jasperResource.getInputStream(), parameters, dataSource);
+            Optional<ReportExporter> exporter = reportService.findExporter(accept, reportInfo.getFormat());
+            if (exporter.isPresent()) {
+                PreparedReport export = reportService.prepareExport(reportInfo, acceptLanguage, exporter.get());
+                return ResponseEntity.ok()
+                        .headers(downloadHeaders(reportService.getFileName(reportInfo, acceptLanguage, exporter.get().getFileExtension()),
+                                exporter.get().getMediaType()))
+                        .body(export::writeTo);
             }
 
-            // Export PDF
-            byte[] pdfBytes = JasperExportManager.exportReportToPdf(jasperPrint);
-            ByteArrayResource resource = new ByteArrayResource(pdfBytes);
+            PreparedReport report = reportService.prepareReport(reportInfo, acceptLanguage);
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.add("Content-Disposition", "attachment; filename=report_" + reportType + "_" + languageCode + "_" + System.currentTimeMillis() + ".pdf");
-            headers.add("Content-Type", MediaType.APPLICATION_PDF_VALUE);
-            headers.add("Access-Control-Expose-Headers", "Content-Disposition");
+            // Stream the PDF straight to the response; the fill (or cache lookup) above already ran, so template and data errors
+            // still surface as a normal error response before any bytes are written
+            StreamingResponseBody body = report::writeTo;
 
             return ResponseEntity.ok()
-                    .headers(headers)
-                    .contentLength(pdfBytes.length)
-                    .body(resource);
+                    .headers(downloadHeaders(reportService.getFileName(reportInfo, acceptLanguage, "pdf"), MediaType.APPLICATION_PDF))
+                    .body(body);
 
         } catch (JRException e) {
             logger.error("JasperReports error for report type {}: {}", reportInfo.getType(), e.getMessage(), e);
             throw new RuntimeException("Error generating report PDF", e);
-        } catch (IOException e) {
-            logger.error("IO error accessing Jasper file for report type {}: {}", reportInfo.getType(), e.getMessage(), e);
-            throw new RuntimeException("Error accessing report template", e);
         } catch (IllegalArgumentException e) {
             logger.error("Invalid input for report type {}: {}", reportInfo.getType(), e.getMessage(), e);
             throw e;
@@ -119,4 +76,37 @@ public class ReportsController {
             throw new RuntimeException("Internal server error while generating report", e);
         }
     }
-}
\ No newline at end of file
+
+    // Background generation: submit, poll the job, then download the spooled PDF
+    @PostMapping("/jobs")
+    public ResponseEntity<ReportJobDTO> submitReportJob(
+            @Valid @RequestBody ReportInfoDTO reportInfo,
+            @RequestHeader(value = "Accept-Language", required = false) String acceptLanguage) {
+        ReportJobDTO job = reportJobService.submit(reportInfo, acceptLanguage);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<ReportJobDTO> getReportJob(@PathVariable("jobId") UUID jobId) {
+        return ResponseEntity.ok(reportJobService.getJob(jobId));
+    }
+
+    @GetMapping("/jobs/{jobId}/download")
+    public ResponseEntity<Resource> downloadReport(@PathVariable("jobId") UUID jobId) {
+        ReportJobDTO job = reportJobService.getJob(jobId);
+        if (job.getStatus() != ReportJobStatus.COMPLETED) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.ok()
+                .headers(downloadHeaders(job.getFileName(), MediaType.APPLICATION_PDF))
+                .body(reportJobService.getResult(jobId));
+    }
+
+    private HttpHeaders downloadHeaders(String fileName, MediaType contentType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("Content-Disposition", "attachment; filename=" + fileName);
+        headers.add("Content-Type", contentType.toString());
+        headers.add("Access-Control-Expose-Headers", "Content-Disposition");
+        return headers;
+    }
+}
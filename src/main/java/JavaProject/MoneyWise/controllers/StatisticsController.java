@@ -25,18 +25,20 @@ public class StatisticsController {
     @GetMapping("/category-breakdown")
     public ResponseEntity<List<CategoryBreakdownDTO>> getCategoryBreakdown(
             @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(value = "type", required = false) String type) {
 
-        List<CategoryBreakdownDTO> breakdown = statisticService.getCategoryBreakdown(startDate, endDate);
+        List<CategoryBreakdownDTO> breakdown = statisticService.getCategoryBreakdown(startDate, endDate, type);
         return ResponseEntity.ok(breakdown);
     }
 
     @GetMapping("/wallet-breakdown")
     public ResponseEntity<List<WalletBreakdownDTO>> getWalletBreakdown(
             @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(value = "type", required = false) String type) {
 
-        List<WalletBreakdownDTO> breakdown = statisticService.getWalletBreakdown(startDate, endDate);
+        List<WalletBreakdownDTO> breakdown = statisticService.getWalletBreakdown(startDate, endDate, type);
         return ResponseEntity.ok(breakdown);
     }
 
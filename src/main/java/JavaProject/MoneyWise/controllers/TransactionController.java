@@ -1,21 +1,31 @@
 package JavaProject.MoneyWise.controllers;
 
 import JavaProject.MoneyWise.models.dtos.transaction.*;
+import JavaProject.MoneyWise.services.ReportExporter;
+import JavaProject.MoneyWise.services.TransactionImportService;
 import JavaProject.MoneyWise.services.TransactionService;
+import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequiredArgsConstructor
@@ -24,6 +34,7 @@ import java.util.stream.Collectors;
 @Tag(name = "Transaction")
 public class TransactionController {
     private final TransactionService transactionService;
+    private final TransactionImportService transactionImportService;
 
     @GetMapping
     public ResponseEntity<List<TransactionDTO>> getAllTransactions() {
@@ -37,6 +48,71 @@ public class TransactionController {
         return ResponseEntity.ok(transactions);
     }
 
+    // Keyset-paginated listings: pass the nextCursor of the previous page to continue
+    @GetMapping("/page")
+    public ResponseEntity<TransactionPageDTO> getTransactionsPage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        TransactionPageDTO page = transactionService.getTransactionsPage(cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/wallet/{walletId}/page")
+    public ResponseEntity<TransactionPageDTO> getTransactionsPageByWalletId(
+            @PathVariable("walletId") UUID walletId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        TransactionPageDTO page = transactionService.getTransactionsPageByWalletId(walletId, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    // Whole history as ndjson (default), csv, json or xlsx, streamed from a database cursor; gzip when accepted
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @RequestHeader(value = "Accept-Encoding", required = false) String acceptEncoding) {
+        ReportExporter exporter = transactionService.getExporter(format);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 8192);
+                transactionService.exportTransactions(exporter, compressed);
+                compressed.finish();
+            } else {
+                transactionService.exportTransactions(exporter, out);
+            }
+        };
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("Content-Disposition", "attachment; filename=transactions_" + LocalDate.now() + "." + exporter.getFileExtension());
+        headers.add("Access-Control-Expose-Headers", "Content-Disposition");
+        headers.setContentType(exporter.getMediaType());
+        if (gzip) {
+            headers.add(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        return ResponseEntity.ok().headers(headers).body(body);
+    }
+
+    // Bulk import of a CSV or OFX bank export; walletId/categoryId apply to rows that do not name their own.
+    // decimalSeparator ('.' or ',') defaults to ',' for semicolon-separated CSV and '.' otherwise
+    @PostMapping(value = "/import", consumes = {MediaType.MULTIPART_FORM_DATA_VALUE})
+    public ResponseEntity<TransactionImportResultDTO> importTransactions(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "format", required = false) String format,
+            @RequestParam(value = "walletId", required = false) UUID walletId,
+            @RequestParam(value = "categoryId", required = false) UUID categoryId,
+            @RequestParam(value = "decimalSeparator", required = false) String decimalSeparator) throws IOException {
+        String importFormat = format;
+        if (importFormat == null) {
+            String fileName = file.getOriginalFilename() != null ? file.getOriginalFilename().toLowerCase() : "";
+            importFormat = fileName.endsWith(".ofx") || fileName.endsWith(".qfx") ? "ofx" : "csv";
+        }
+        TransactionImportResultDTO result = transactionImportService.importTransactions(file, importFormat, walletId, categoryId, decimalSeparator);
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
     @GetMapping("/{transactionId}")
     public ResponseEntity<TransactionDTO> getTransactionById(@PathVariable("transactionId") UUID transactionId) {
         TransactionDTO found = transactionService.getTransactionById(transactionId);
@@ -61,6 +137,7 @@ public class TransactionController {
         return ResponseEntity.ok(deletedId);
     }
 
+    @Operation(summary = "Searches transactions; X-Results-Truncated: true when more than `limit` (max 500) rows matched")
     @GetMapping("/search")
     public ResponseEntity<?> searchTransactions(
             @Valid @ModelAttribute @ParameterObject SearchTransactionsDTO dto,
@@ -74,8 +151,11 @@ public class TransactionController {
             return ResponseEntity.badRequest().body(errors);
         }
 
-        List<TransactionDetailDTO> transactions = transactionService.searchTransactions(dto);
-        return ResponseEntity.ok(transactions);
+        TransactionSearchResultDTO result = transactionService.searchTransactions(dto);
+        return ResponseEntity.ok()
+                .header("X-Results-Truncated", String.valueOf(result.isTruncated()))
+                .header("Access-Control-Expose-Headers", "X-Results-Truncated")
+                .body(result.getItems());
     }
 
 }
@@ -121,7 +121,7 @@ public interface ApplicationMapper {
 
     @Mapping(target = "transactionId", source = "transactionId")
     @Mapping(target = "date", expression = "java(transaction.getTransactionDate())")
-    @Mapping(target = "time", expression = "java(transaction.getTransactionDate().toLocalTime().format(java.time.format.DateTimeFormatter.ofPattern(\"HH:mm:ss\")))")
+    @Mapping(target = "time", expression = "java(transaction.getTransactionDate().toLocalTime().format(JavaProject.MoneyWise.helper.DateTimeFormatterUtil.TIME_FORMATTER))")
     @Mapping(target = "dayOfWeek", expression = "java(capitalizeDayOfWeek(transaction.getTransactionDate().getDayOfWeek()))")
     @Mapping(target = "month", expression = "java(transaction.getTransactionDate().getMonth().getDisplayName(java.time.format.TextStyle.FULL, java.util.Locale.ENGLISH))")
     @Mapping(target = "categoryName", source = "category.name")
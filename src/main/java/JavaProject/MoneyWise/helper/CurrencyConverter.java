@@ -1,75 +1,65 @@
 package JavaProject.MoneyWise.helper;
 
-import JavaProject.MoneyWise.models.dtos.statistic.*;
-import JavaProject.MoneyWise.models.dtos.statistic.CategoryBreakdownDTO;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.JsonNode;
+import JavaProject.MoneyWise.models.dtos.statistic.MonetaryConvertible;
+import JavaProject.MoneyWise.services.ExchangeRateService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.net.URI;
 import java.text.NumberFormat;
 import java.util.Currency;
 import java.util.List;
 import java.util.Locale;
-import java.util.stream.Collectors;
+import java.util.function.UnaryOperator;
 
 @Component
 public class CurrencyConverter {
 
     @Autowired
-    private RestTemplate restTemplate;
-
-    @Autowired
-    private ObjectMapper objectMapper;
+    private ExchangeRateService exchangeRateService;
 
     private static final Logger logger = LoggerFactory.getLogger(CurrencyConverter.class);
 
-    // Primary exchange rate API
-    private static final String PRIMARY_CURRENCY_API = "https://cdn.jsdelivr.net/npm/@fawazahmed0/currency-api@latest/v1/currencies/usd.json";
-
-    // Fallback API if primary fails
-    private static final String FALLBACK_CURRENCY_API = "https://latest.currency-api.pages.dev/v1/currencies/usd.json";
-
-    // Fetch exchange rate USD to VND from API
+    private static final ThreadLocal<NumberFormat> VND_FORMAT = ThreadLocal.withInitial(() -> {
+        NumberFormat format = NumberFormat.getInstance(Locale.of("vi", "VN"));
+        format.setMaximumFractionDigits(0);
+        format.setMinimumFractionDigits(0);
+        return format;
+    });
+
+    private static final ThreadLocal<NumberFormat> USD_FORMAT = ThreadLocal.withInitial(() -> {
+        NumberFormat format = NumberFormat.getCurrencyInstance(Locale.US);
+        format.setCurrency(Currency.getInstance("USD"));
+        format.setMinimumFractionDigits(2);
+        format.setMaximumFractionDigits(2);
+        return format;
+    });
+
+    private static final ThreadLocal<NumberFormat> FALLBACK_FORMAT = ThreadLocal.withInitial(() -> {
+        NumberFormat format = NumberFormat.getInstance(Locale.getDefault());
+        format.setMinimumFractionDigits(2);
+        format.setMaximumFractionDigits(2);
+        return format;
+    });
+
+    // Digits kept in the per-report reciprocal of the exchange rate (1 / 25000 needs ~10 just to be exact)
+    private static final int RECIPROCAL_SCALE = 20;
+
+    // USD to VND rate from the cached, periodically refreshed rate service (no network call on the request path)
     public BigDecimal fetchExchangeRate() {
-        try {
-            String response = restTemplate.getForObject(new URI(PRIMARY_CURRENCY_API), String.class);
-            BigDecimal rate = parseExchangeRate(response);
-            logger.info("Fetched exchange rate (USD to VND) from primary API: {}", rate); // Log the rate
-            return rate;
-        } catch (Exception e) {
-            logger.warn("Primary currency API failed: {}", e.getMessage());
-            try {
-                String response = restTemplate.getForObject(new URI(FALLBACK_CURRENCY_API), String.class);
-                BigDecimal rate = parseExchangeRate(response);
-                logger.info("Fetched exchange rate (USD to VND) from fallback API: {}", rate); // Log the rate
-                return rate;
-            } catch (Exception ex) {
-                logger.error("Fallback currency API failed: {}", ex.getMessage());
-                throw new RuntimeException("Unable to fetch exchange rate", ex);
-            }
-        }
+        return exchangeRateService.getUsdToVndRate();
     }
 
-    // Parse exchange rate value from API response
-    private BigDecimal parseExchangeRate(String response) {
-        try {
-            JsonNode jsonNode = objectMapper.readTree(response);
-            JsonNode vndRateNode = jsonNode.path("usd").path("vnd");
-            if (vndRateNode.isMissingNode()) {
-                throw new RuntimeException("VND rate not found in response");
-            }
-            return vndRateNode.decimalValue();
-        } catch (Exception e) {
-            logger.error("Parse error: {}", e.getMessage());
-            throw new RuntimeException("Unable to parse exchange rate", e);
-        }
+    // VND per one unit of the given currency, from the same cached rate table
+    public BigDecimal fetchExchangeRate(String currencyCode) {
+        return exchangeRateService.getRateTable().factor(currencyCode, "VND");
+    }
+
+    public boolean supportsCurrency(String currencyCode) {
+        return exchangeRateService.getRateTable().supports(currencyCode);
     }
 
     // Convert VND amount to USD using exchange rate
@@ -78,192 +68,67 @@ public class CurrencyConverter {
             throw new IllegalArgumentException("Invalid amount or exchange rate");
         }
         BigDecimal usdAmount = vndAmount.divide(exchangeRate, 2, RoundingMode.HALF_UP);
-        logger.info("Converted {} VND to {} USD using exchange rate {}", vndAmount, usdAmount, exchangeRate);
+        logger.debug(SampledLogFilter.SAMPLED, "Converted {} VND to {} USD using exchange rate {}", vndAmount, usdAmount, exchangeRate);
         return usdAmount;
     }
 
+    // Called once per budget/goal notification and once per cell in Jasper reports, so the formats are pre-built.
+    // NumberFormat is not thread-safe: each thread keeps its own configured copy.
     public String formatAmountToDisplay(BigDecimal amount, String currencyCode) {
         if (amount == null) return "0.00";
         try {
-            String currency = currencyCode.toUpperCase();
-
-            switch (currency) {
-                case "VND" -> {
-                    // Locale.of(...) is the modern way
-                    Locale locale = Locale.of("vi", "VN");
-                    NumberFormat format = NumberFormat.getInstance(locale);
-                    format.setMaximumFractionDigits(0);
-                    format.setMinimumFractionDigits(0);
-                    return format.format(amount) + "đ";
-                }
-
-                case "USD" -> {
-                    Locale locale = Locale.US;
-                    NumberFormat format = NumberFormat.getCurrencyInstance(locale);
-                    format.setCurrency(Currency.getInstance("USD"));
-                    format.setMinimumFractionDigits(2);
-                    format.setMaximumFractionDigits(2);
-                    return format.format(amount);
-                }
-
-                default -> {
-                    // Fallback for unsupported currencies
-                    Locale fallbackLocale = Locale.getDefault();
-                    NumberFormat fallback = NumberFormat.getInstance(fallbackLocale);
-                    fallback.setMinimumFractionDigits(2);
-                    fallback.setMaximumFractionDigits(2);
-                    return currency + " " + fallback.format(amount);
-                }
-            }
-
+            String currency = currencyCode.toUpperCase(Locale.ROOT);
+            String formatted = numberFormatFor(currency).format(amount);
+            return switch (currency) {
+                case "VND" -> formatted + "đ";
+                case "USD" -> formatted;
+                // Fallback for unsupported currencies
+                default -> currency + " " + formatted;
+            };
         } catch (Exception e) {
             return amount.setScale(2, RoundingMode.HALF_UP).toPlainString() + " " + currencyCode;
         }
     }
 
-    // Convert report data from VND to USD
-    public Object convertForUSDReport(Object reportData, BigDecimal exchangeRate, String reportType) {
+    // This thread's pre-built format for an upper-case currency code
+    static NumberFormat numberFormatFor(String currency) {
+        return switch (currency) {
+            case "VND" -> VND_FORMAT.get();
+            case "USD" -> USD_FORMAT.get();
+            default -> FALLBACK_FORMAT.get();
+        };
+    }
+
+    // Convert report data from VND to another currency; exchangeRate is VND per unit of that currency.
+    // DTOs are converted in place: one reciprocal is computed per report and every amount is multiplied by it.
+    public Object convertForReport(Object reportData, BigDecimal exchangeRate, String reportType) {
         if (reportData == null) {
             throw new IllegalStateException("Report data is null: " + reportType);
         }
-
-        switch (reportType.toLowerCase()) {
-            case "category-breakdown":
-                if (!(reportData instanceof List<?> list) || !list.stream().allMatch(item -> item instanceof CategoryBreakdownDTO)) {
-                    throw new IllegalStateException("Expected List<CategoryBreakdownDTO>");
-                }
-                break;
-            case "cash-flow":
-                if (!(reportData instanceof CashFlowSummaryDTO)) {
-                    throw new IllegalStateException("Expected CashFlowSummaryDTO");
-                }
-                break;
-            case "daily-summary":
-                if (!(reportData instanceof DailySummaryDTO)) {
-                    throw new IllegalStateException("Expected DailySummaryDTO");
-                }
-                break;
-            case "weekly-summary":
-                if (!(reportData instanceof WeeklySummaryDTO)) {
-                    throw new IllegalStateException("Expected WeeklySummaryDTO");
-                }
-                break;
-            case "monthly-summary":
-                if (!(reportData instanceof MonthlySummaryDTO)) {
-                    throw new IllegalStateException("Expected MonthlySummaryDTO");
-                }
-                break;
-            case "yearly-summary":
-                if (!(reportData instanceof YearlySummaryDTO)) {
-                    throw new IllegalStateException("Expected YearlySummaryDTO");
-                }
-                break;
-            default:
-                throw new IllegalArgumentException("Unsupported report type: " + reportType);
+        if (exchangeRate == null || exchangeRate.signum() <= 0) {
+            throw new IllegalArgumentException("Invalid exchange rate: " + exchangeRate);
         }
 
-        try {
-            // Convert list or single DTO
-            if (reportData instanceof List) {
-                return ((List<?>) reportData).stream()
-                        .map(dto -> convertSingleDTOToUSD(dto, exchangeRate))
-                        .collect(Collectors.toList());
-            } else {
-                return convertSingleDTOToUSD(reportData, exchangeRate);
+        BigDecimal reciprocal = BigDecimal.ONE.divide(exchangeRate, RECIPROCAL_SCALE, RoundingMode.HALF_UP);
+        UnaryOperator<BigDecimal> converter = value -> value == null
+                ? BigDecimal.ZERO
+                : value.multiply(reciprocal).setScale(2, RoundingMode.HALF_UP);
+
+        if (reportData instanceof List<?> list) {
+            for (Object item : list) {
+                requireConvertible(item, reportType).convertAmounts(converter);
             }
-        } catch (Exception e) {
-            logger.error("Conversion error for {}: {}", reportType, e.getMessage(), e);
-            throw new RuntimeException("Conversion to USD failed", e);
+        } else {
+            requireConvertible(reportData, reportType).convertAmounts(converter);
         }
+        return reportData;
     }
 
-    // Convert individual DTO to USD
-    private Object convertSingleDTOToUSD(Object dto, BigDecimal exchangeRate) {
-        if (dto == null) return null;
-
-        if (dto instanceof CategoryBreakdownDTO categoryDTO) {
-            return new CategoryBreakdownDTO(
-                    categoryDTO.getCategory(),
-                    convertBigDecimal(categoryDTO.getTotalIncome(), exchangeRate),
-                    convertBigDecimal(categoryDTO.getTotalExpense(), exchangeRate),
-                    categoryDTO.getIncomePercentage(),
-                    categoryDTO.getExpensePercentage(),
-                    convertBigDecimal(categoryDTO.getBudgetLimit(), exchangeRate),
-                    convertBigDecimal(categoryDTO.getBudgetCurrentSpending(), exchangeRate),
-                    convertBigDecimal(categoryDTO.getGoalTarget(), exchangeRate),
-                    convertBigDecimal(categoryDTO.getGoalSaved(), exchangeRate)
-            );
-        } else if (dto instanceof CashFlowSummaryDTO cashFlowDTO) {
-            return new CashFlowSummaryDTO(
-                    convertBigDecimal(cashFlowDTO.getTotalIncome(), exchangeRate),
-                    convertBigDecimal(cashFlowDTO.getTotalExpenses(), exchangeRate)
-            );
-        } else if (dto instanceof DailySummaryDTO dailyDTO) {
-            List<DailyDetailDTO> convertedDetails = dailyDTO.getDailyDetails().stream()
-                    .map(detail -> new DailyDetailDTO(
-                            detail.getDayOfWeek(),
-                            convertBigDecimal(detail.getIncome(), exchangeRate),
-                            convertBigDecimal(detail.getExpense(), exchangeRate)
-                    ))
-                    .collect(Collectors.toList());
-            DailySummaryDTO result = new DailySummaryDTO();
-            result.setDailyDetails(convertedDetails);
-            result.setTotalIncome(convertBigDecimal(dailyDTO.getTotalIncome(), exchangeRate));
-            result.setTotalExpenses(convertBigDecimal(dailyDTO.getTotalExpenses(), exchangeRate));
-            return result;
-        } else if (dto instanceof WeeklySummaryDTO weeklyDTO) {
-            List<WeeklyDetailDTO> convertedDetails = weeklyDTO.getWeeklyDetails().stream()
-                    .map(detail -> {
-                        WeeklyDetailDTO newDetail = new WeeklyDetailDTO();
-                        newDetail.setWeekNumber(detail.getWeekNumber());
-                        newDetail.setIncome(convertBigDecimal(detail.getIncome(), exchangeRate));
-                        newDetail.setExpense(convertBigDecimal(detail.getExpense(), exchangeRate));
-                        return newDetail;
-                    })
-                    .collect(Collectors.toList());
-            WeeklySummaryDTO result = new WeeklySummaryDTO();
-            result.setWeeklyDetails(convertedDetails);
-            result.setTotalIncome(convertBigDecimal(weeklyDTO.getTotalIncome(), exchangeRate));
-            result.setTotalExpenses(convertBigDecimal(weeklyDTO.getTotalExpenses(), exchangeRate));
-            return result;
-        } else if (dto instanceof MonthlySummaryDTO monthlyDTO) {
-            List<MonthlyDetailDTO> convertedDetails = monthlyDTO.getMonthlyDetails().stream()
-                    .map(detail -> {
-                        MonthlyDetailDTO newDetail = new MonthlyDetailDTO();
-                        newDetail.setMonthName(detail.getMonthName());
-                        newDetail.setIncome(convertBigDecimal(detail.getIncome(), exchangeRate));
-                        newDetail.setExpense(convertBigDecimal(detail.getExpense(), exchangeRate));
-                        return newDetail;
-                    })
-                    .collect(Collectors.toList());
-            MonthlySummaryDTO result = new MonthlySummaryDTO();
-            result.setMonthlyDetails(convertedDetails);
-            result.setTotalIncome(convertBigDecimal(monthlyDTO.getTotalIncome(), exchangeRate));
-            result.setTotalExpenses(convertBigDecimal(monthlyDTO.getTotalExpenses(), exchangeRate));
-            return result;
-        } else if (dto instanceof YearlySummaryDTO yearlyDTO) {
-            List<YearlyDetailDTO> convertedDetails = yearlyDTO.getYearlyDetails().stream()
-                    .map(detail -> {
-                        YearlyDetailDTO newDetail = new YearlyDetailDTO();
-                        newDetail.setYear(detail.getYear());
-                        newDetail.setIncome(convertBigDecimal(detail.getIncome(), exchangeRate));
-                        newDetail.setExpense(convertBigDecimal(detail.getExpense(), exchangeRate));
-                        return newDetail;
-                    })
-                    .collect(Collectors.toList());
-            YearlySummaryDTO result = new YearlySummaryDTO();
-            result.setYearlyDetails(convertedDetails);
-            result.setTotalIncome(convertBigDecimal(yearlyDTO.getTotalIncome(), exchangeRate));
-            result.setTotalExpenses(convertBigDecimal(yearlyDTO.getTotalExpenses(), exchangeRate));
-            return result;
+    private static MonetaryConvertible requireConvertible(Object dto, String reportType) {
+        if (dto instanceof MonetaryConvertible convertible) {
+            return convertible;
         }
-
-        return dto;
-    }
-
-    // Divide VND value by exchange rate to get USD, round to 2 decimals
-    private BigDecimal convertBigDecimal(BigDecimal value, BigDecimal exchangeRate) {
-        if (value == null) return BigDecimal.ZERO;
-        return value.divide(exchangeRate, 2, RoundingMode.HALF_UP);
+        throw new IllegalStateException("Report data of " + reportType + " has no convertible amounts: "
+                + (dto == null ? "null" : dto.getClass().getSimpleName()));
     }
 }
\ No newline at end of file
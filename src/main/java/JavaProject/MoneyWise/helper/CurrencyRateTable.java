@@ -0,0 +1,85 @@
+package JavaProject.MoneyWise.helper;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+// Immutable snapshot of every known rate against the pivot currency (USD), built once per refresh.
+// Rates live in an array indexed by the 3-letter ISO code packed into an int, so lookups need no hashing,
+// and any-to-any conversion goes through the pivot: amount * rate(to) / rate(from).
+public final class CurrencyRateTable {
+
+    public static final String PIVOT_CURRENCY = "USD";
+
+    private static final int SLOTS = 26 * 26 * 26;
+
+    // Units of the currency for one unit of the pivot currency, or null when unknown
+    private final BigDecimal[] ratesPerPivot;
+    private final LocalDateTime fetchedAt;
+
+    private CurrencyRateTable(BigDecimal[] ratesPerPivot, LocalDateTime fetchedAt) {
+        this.ratesPerPivot = ratesPerPivot;
+        this.fetchedAt = fetchedAt;
+    }
+
+    // Codes that are not three ASCII letters (crypto tickers etc. in the upstream feed) and non-positive rates are skipped
+    public static CurrencyRateTable of(Map<String, BigDecimal> ratesPerPivot, LocalDateTime fetchedAt) {
+        BigDecimal[] rates = new BigDecimal[SLOTS];
+        ratesPerPivot.forEach((code, rate) -> {
+            int index = indexOf(code);
+            if (index >= 0 && rate != null && rate.signum() > 0) {
+                rates[index] = rate;
+            }
+        });
+        rates[indexOf(PIVOT_CURRENCY)] = BigDecimal.ONE;
+        return new CurrencyRateTable(rates, fetchedAt);
+    }
+
+    // "VND" -> slot number, -1 for anything that is not a 3-letter code
+    public static int indexOf(String code) {
+        if (code == null || code.length() != 3) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = 0; i < 3; i++) {
+            int letter = Character.toUpperCase(code.charAt(i)) - 'A';
+            if (letter < 0 || letter >= 26) {
+                return -1;
+            }
+            index = index * 26 + letter;
+        }
+        return index;
+    }
+
+    public boolean supports(String code) {
+        int index = indexOf(code);
+        return index >= 0 && ratesPerPivot[index] != null;
+    }
+
+    public BigDecimal rate(String code) {
+        int index = indexOf(code);
+        BigDecimal rate = index >= 0 ? ratesPerPivot[index] : null;
+        if (rate == null) {
+            throw new IllegalArgumentException("Unsupported currency: " + code);
+        }
+        return rate;
+    }
+
+    // Multiplier turning an amount in `from` into `to`
+    public BigDecimal factor(String from, String to) {
+        if (from.equalsIgnoreCase(to)) {
+            return BigDecimal.ONE;
+        }
+        return rate(to).divide(rate(from), MathContext.DECIMAL128);
+    }
+
+    public BigDecimal convert(BigDecimal amount, String from, String to, int scale) {
+        return amount.multiply(factor(from, to)).setScale(scale, RoundingMode.HALF_UP);
+    }
+
+    public LocalDateTime getFetchedAt() {
+        return fetchedAt;
+    }
+}
@@ -5,9 +5,17 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class DateTimeFormatterUtil {
 
+    // "HH:mm:ss" for transaction detail rows
+    public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+    private static final int MAX_CACHED_FORMATTERS = 256;
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
     /**
      * Formats a LocalDateTime to a locale-specific, user-friendly date and time string.
      *
@@ -22,41 +30,7 @@ public class DateTimeFormatterUtil {
         if (dateTime == null) {
             throw new IllegalArgumentException("DateTime cannot be null");
         }
-
-        // Default to Vietnamese if acceptLanguage is null or empty
-        String language = (acceptLanguage == null || acceptLanguage.isEmpty()) ? "vi-VN" : acceptLanguage;
-
-        // Parse the language code into a Locale
-        Locale locale;
-        try {
-            locale = Locale.forLanguageTag(language);
-            if (locale.getLanguage().isEmpty()) {
-                locale = Locale.of("vi"); // Fallback to Vietnamese
-            }
-        } catch (Exception e) {
-            locale = Locale.of("vi"); // Fallback to Vietnamese on invalid language code
-        }
-
-        // Define locale-specific patterns
-        String datePattern;
-        String timePattern = includeTime ? "HH:mm, " : ""; // 24-hour format by default with comma
-        if (locale.getLanguage().equals("vi")) {
-            datePattern = "d MMMM yyyy"; // e.g., "30 Tháng Sáu 2025"
-        } else if (locale.getLanguage().equals("en") && locale.getCountry().equals("US")) {
-            datePattern = "MMMM d, yyyy"; // e.g., "June 30, 2025"
-            timePattern = includeTime ? "h:mm a, " : ""; // 12-hour with AM/PM, e.g., "7:33 AM, "
-        } else {
-            // Fallback to localized medium style for date, short for time
-            DateTimeFormatter formatter = includeTime
-                    ? DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM, FormatStyle.SHORT).withLocale(locale)
-                    : DateTimeFormatter.ofLocalizedDate(FormatStyle.MEDIUM).withLocale(locale);
-            return formatter.format(dateTime);
-        }
-
-        // Combine time and date patterns (time before date)
-        String pattern = timePattern + datePattern;
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern, locale);
-        return formatter.format(dateTime);
+        return formatterFor(acceptLanguage, includeTime).format(dateTime);
     }
 
     /**
@@ -72,7 +46,25 @@ public class DateTimeFormatterUtil {
         if (date == null) {
             throw new IllegalArgumentException("Date cannot be null");
         }
+        return formatterFor(acceptLanguage, false).format(date);
+    }
 
+    // DateTimeFormatter is immutable and thread-safe, so one instance per (language, includeTime) is shared.
+    // The key comes from the Accept-Language header, hence the size cap: unknown values beyond it are built per call.
+    static DateTimeFormatter formatterFor(String acceptLanguage, boolean includeTime) {
+        String key = (includeTime ? "T|" : "D|") + (acceptLanguage == null ? "" : acceptLanguage);
+        DateTimeFormatter cached = FORMATTERS.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        DateTimeFormatter formatter = buildFormatter(acceptLanguage, includeTime);
+        if (FORMATTERS.size() < MAX_CACHED_FORMATTERS) {
+            FORMATTERS.putIfAbsent(key, formatter);
+        }
+        return formatter;
+    }
+
+    private static DateTimeFormatter buildFormatter(String acceptLanguage, boolean includeTime) {
         // Default to Vietnamese if acceptLanguage is null or empty
         String language = (acceptLanguage == null || acceptLanguage.isEmpty()) ? "vi-VN" : acceptLanguage;
 
@@ -88,17 +80,21 @@ public class DateTimeFormatterUtil {
         }
 
         // Define locale-specific patterns
-        String pattern;
+        String datePattern;
+        String timePattern = includeTime ? "HH:mm, " : ""; // 24-hour format by default with comma
         if (locale.getLanguage().equals("vi")) {
-            pattern = "d MMMM yyyy"; // e.g., "30 Tháng Sáu 2025"
+            datePattern = "d MMMM yyyy"; // e.g., "30 Tháng Sáu 2025"
         } else if (locale.getLanguage().equals("en") && locale.getCountry().equals("US")) {
-            pattern = "MMMM d, yyyy"; // e.g., "June 30, 2025"
+            datePattern = "MMMM d, yyyy"; // e.g., "June 30, 2025"
+            timePattern = includeTime ? "h:mm a, " : ""; // 12-hour with AM/PM, e.g., "7:33 AM, "
         } else {
-            // Fallback to localized medium style
-            return DateTimeFormatter.ofLocalizedDate(FormatStyle.MEDIUM).withLocale(locale).format(date);
+            // Fallback to localized medium style for date, short for time
+            return includeTime
+                    ? DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM, FormatStyle.SHORT).withLocale(locale)
+                    : DateTimeFormatter.ofLocalizedDate(FormatStyle.MEDIUM).withLocale(locale);
         }
 
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern, locale);
-        return formatter.format(date);
+        // Combine time and date patterns (time before date)
+        return DateTimeFormatter.ofPattern(timePattern + datePattern, locale);
     }
 }
\ No newline at end of file
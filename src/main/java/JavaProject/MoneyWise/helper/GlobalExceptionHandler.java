@@ -1,6 +1,7 @@
 package JavaProject.MoneyWise.helper;
 
 import JavaProject.MoneyWise.models.dtos.error.ValidationErrorResponse;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+@Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
@@ -63,9 +65,19 @@ public class GlobalExceptionHandler {
         return pd;
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ProblemDetail handleTooManyRequests(TooManyRequestsException ex, WebRequest request) {
+        ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.TOO_MANY_REQUESTS);
+        pd.setType(URI.create("https://www.rfc-editor.org/rfc/rfc6585#section-4"));
+        pd.setTitle("Too many requests");
+        pd.setDetail(ex.getMessage());
+        pd.setProperty("traceId", request.getAttribute("traceId", WebRequest.SCOPE_REQUEST));
+        return pd;
+    }
+
     @ExceptionHandler(Exception.class)
     public ProblemDetail handleGenericException(Exception ex, WebRequest request) {
-        ex.printStackTrace();
+        log.error("Unhandled exception", ex);
         ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.INTERNAL_SERVER_ERROR);
         pd.setType(URI.create("https://tools.ietf.org/html/rfc9110#section-15.6.1"));
         pd.setTitle("An unexpected error occurred");
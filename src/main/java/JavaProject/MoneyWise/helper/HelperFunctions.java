@@ -1,20 +1,53 @@
 package JavaProject.MoneyWise.helper;
 
+import JavaProject.MoneyWise.models.entities.CustomUserDetails;
+import JavaProject.MoneyWise.models.entities.JwtPrincipal;
 import JavaProject.MoneyWise.models.entities.User;
 import JavaProject.MoneyWise.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.util.UUID;
 
 @RequiredArgsConstructor
 @Slf4j
 public class HelperFunctions {
+    private static final String CURRENT_USER_ATTRIBUTE = HelperFunctions.class.getName() + ".currentUser";
+
+    // Resolves the authenticated user once per request: the JwtAuthenticationFilter either loaded it into
+    // CustomUserDetails or left a JwtPrincipal with its id; otherwise it is looked up and kept as a request attribute.
     public static User getCurrentUser(UserRepository userRepository) {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        return userRepository.findByUsername(email)
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUser();
+        }
+
+        // Stateless token: inside a transaction a reference is enough (loaded only if a field is read)
+        JwtPrincipal jwtPrincipal = authentication.getPrincipal() instanceof JwtPrincipal p ? p : null;
+        if (jwtPrincipal != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+            return userRepository.getReferenceById(jwtPrincipal.getUserId());
+        }
+
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null
+                && requestAttributes.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof User cached
+                && cached.getUsername().equals(authentication.getName())) {
+            return cached;
+        }
+
+        User user = (jwtPrincipal != null
+                ? userRepository.findById(jwtPrincipal.getUserId())
+                : userRepository.findByUsername(authentication.getName()))
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(CURRENT_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
     }
 
     public static User findUserByStringId(String userId, UserRepository userRepository) {
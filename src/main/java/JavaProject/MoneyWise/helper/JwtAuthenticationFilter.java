@@ -1,13 +1,21 @@
 package JavaProject.MoneyWise.helper;
 
+import JavaProject.MoneyWise.models.entities.JwtPrincipal;
 import JavaProject.MoneyWise.services.JwtService;
+import JavaProject.MoneyWise.services.UserStatusService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -15,12 +23,21 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.*;
 
+@Slf4j
 @RequiredArgsConstructor
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final UserStatusService userStatusService;
+
+    @Value("${jwt.stateless-auth:true}")
+    private boolean statelessAuth;
+
+    @Value("${jwt.user-status-check:true}")
+    private boolean userStatusCheck;
 
     @Override
     protected void doFilterInternal(
@@ -37,15 +54,43 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = header.substring(7);
         try {
-            String username = jwtService.extractUsername(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-            UsernamePasswordAuthenticationToken authToken =
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            Claims claims = jwtService.parseClaims(token);
+            String userId = claims.get("uid", String.class);
+            UsernamePasswordAuthenticationToken authToken;
+            if (statelessAuth && userId != null) {
+                // Stateless: the principal comes from the verified claims, no user lookup
+                UUID id = UUID.fromString(userId);
+                if (userStatusCheck && !userStatusService.isEnabled(id)) {
+                    throw new DisabledException("User is disabled");
+                }
+                authToken = new UsernamePasswordAuthenticationToken(
+                        new JwtPrincipal(id, claims.getSubject()), null, extractAuthorities(claims));
+            } else {
+                // Tokens issued before the uid claim existed still go through the user lookup
+                UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+                authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            }
             SecurityContextHolder.getContext().setAuthentication(authToken);
         } catch (Exception e) {
-            // Log error if needed
+            log.debug("JWT authentication failed: {}", e.getMessage());
         }
         filterChain.doFilter(request, response);
-        System.out.println("Authorities: " + SecurityContextHolder.getContext().getAuthentication().getAuthorities());
+    }
+
+    // "roles" holds authority names; older tokens serialized them as {"authority": "..."} objects
+    private List<GrantedAuthority> extractAuthorities(Claims claims) {
+        Object roles = claims.get("roles");
+        if (!(roles instanceof Collection<?> values)) {
+            return List.of();
+        }
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        for (Object value : values) {
+            if (value instanceof Map<?, ?> map && map.get("authority") != null) {
+                authorities.add(new SimpleGrantedAuthority(map.get("authority").toString()));
+            } else if (value != null) {
+                authorities.add(new SimpleGrantedAuthority(value.toString()));
+            }
+        }
+        return authorities;
     }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package JavaProject.MoneyWise.helper;
+
+import JavaProject.MoneyWise.services.ReportExporter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+// Single lookup over the registered ReportExporter beans, shared by the report and transaction export endpoints
+@Component
+@RequiredArgsConstructor
+public class ReportExporters {
+
+    private final List<ReportExporter> exporters;
+
+    public Optional<ReportExporter> findByExtension(String format) {
+        if (format == null) {
+            return Optional.empty();
+        }
+        return exporters.stream()
+                .filter(exporter -> exporter.getFileExtension().equalsIgnoreCase(format))
+                .findFirst();
+    }
+
+    // An Accept header naming only concrete types wins (browsers and HTTP clients that also send */* fall through);
+    // otherwise the format parameter. Empty when neither names an exporter, or when application/pdf is requested
+    public Optional<ReportExporter> find(String accept, String format) {
+        List<MediaType> requestedTypes = accept == null || accept.isBlank() ? List.of() : MediaType.parseMediaTypes(accept);
+        if (requestedTypes.stream().anyMatch(MediaType.APPLICATION_PDF::equalsTypeAndSubtype)) {
+            return Optional.empty();
+        }
+        if (requestedTypes.stream().noneMatch(type -> type.isWildcardType() || type.isWildcardSubtype())) {
+            for (MediaType requested : requestedTypes) {
+                for (ReportExporter exporter : exporters) {
+                    if (exporter.getMediaType().isCompatibleWith(requested)) {
+                        return Optional.of(exporter);
+                    }
+                }
+            }
+        }
+        return findByExtension(format);
+    }
+}
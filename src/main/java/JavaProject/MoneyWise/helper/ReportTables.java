@@ -0,0 +1,81 @@
+package JavaProject.MoneyWise.helper;
+
+import JavaProject.MoneyWise.models.dtos.report.ReportTable;
+import JavaProject.MoneyWise.models.dtos.statistic.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+// Flattens the StatisticService report data into rows for the CSV/XLSX/JSON exporters
+public class ReportTables {
+
+    private static final List<String> BREAKDOWN_AMOUNTS = List.of("totalIncome", "totalExpense", "incomePercentage",
+            "expensePercentage", "budgetLimit", "budgetCurrentSpending", "goalTarget", "goalSaved");
+    private static final String TOTAL_ROW = "Total";
+
+    private ReportTables() {
+    }
+
+    public static ReportTable of(Object reportData) {
+        if (reportData instanceof CashFlowSummaryDTO cashFlow) {
+            return new ReportTable(List.of("totalIncome", "totalExpenses"),
+                    Stream.of(row(cashFlow.getTotalIncome(), cashFlow.getTotalExpenses())));
+        }
+        if (reportData instanceof DailySummaryDTO daily) {
+            return periods("dayOfWeek", daily.getDailyDetails(),
+                    d -> row(d.getDayOfWeek(), d.getIncome(), d.getExpense()),
+                    daily.getTotalIncome(), daily.getTotalExpenses());
+        }
+        if (reportData instanceof WeeklySummaryDTO weekly) {
+            return periods("weekNumber", weekly.getWeeklyDetails(),
+                    d -> row(d.getWeekNumber(), d.getIncome(), d.getExpense()),
+                    weekly.getTotalIncome(), weekly.getTotalExpenses());
+        }
+        if (reportData instanceof MonthlySummaryDTO monthly) {
+            return periods("monthName", monthly.getMonthlyDetails(),
+                    d -> row(d.getMonthName(), d.getIncome(), d.getExpense()),
+                    monthly.getTotalIncome(), monthly.getTotalExpenses());
+        }
+        if (reportData instanceof YearlySummaryDTO yearly) {
+            return periods("year", yearly.getYearlyDetails(),
+                    d -> row(d.getYear(), d.getIncome(), d.getExpense()),
+                    yearly.getTotalIncome(), yearly.getTotalExpenses());
+        }
+        if (reportData instanceof List<?> list && list.stream().allMatch(CategoryBreakdownDTO.class::isInstance)) {
+            return breakdown("category", list.stream().map(CategoryBreakdownDTO.class::cast).map(c -> row(c.getCategory(),
+                    c.getTotalIncome(), c.getTotalExpense(), c.getIncomePercentage(), c.getExpensePercentage(),
+                    c.getBudgetLimit(), c.getBudgetCurrentSpending(), c.getGoalTarget(), c.getGoalSaved())));
+        }
+        if (reportData instanceof List<?> list && list.stream().allMatch(WalletBreakdownDTO.class::isInstance)) {
+            return breakdown("walletName", list.stream().map(WalletBreakdownDTO.class::cast).map(w -> row(w.getWalletName(),
+                    w.getTotalIncome(), w.getTotalExpense(), w.getIncomePercentage(), w.getExpensePercentage(),
+                    w.getBudgetLimit(), w.getBudgetCurrentSpending(), w.getGoalTarget(), w.getGoalSaved())));
+        }
+        throw new IllegalArgumentException("Report data cannot be exported as a table: "
+                + (reportData == null ? "null" : reportData.getClass().getSimpleName()));
+    }
+
+    // One row per period followed by a total row
+    private static <T> ReportTable periods(String periodColumn, List<T> details, Function<T, List<Object>> toRow,
+                                           BigDecimal totalIncome, BigDecimal totalExpenses) {
+        Stream<List<Object>> rows = details == null ? Stream.empty() : details.stream().map(toRow);
+        return new ReportTable(List.of(periodColumn, "income", "expense"),
+                Stream.concat(rows, Stream.of(row(TOTAL_ROW, totalIncome, totalExpenses))));
+    }
+
+    private static ReportTable breakdown(String nameColumn, Stream<List<Object>> rows) {
+        List<String> columns = new ArrayList<>(BREAKDOWN_AMOUNTS.size() + 1);
+        columns.add(nameColumn);
+        columns.addAll(BREAKDOWN_AMOUNTS);
+        return new ReportTable(columns, rows);
+    }
+
+    // Arrays.asList rather than List.of: cells may be null
+    private static List<Object> row(Object... values) {
+        return Arrays.asList(values);
+    }
+}
@@ -0,0 +1,159 @@
+package JavaProject.MoneyWise.helper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import net.sf.jasperreports.engine.*;
+import net.sf.jasperreports.engine.export.JRPdfExporter;
+import net.sf.jasperreports.engine.util.JRLoader;
+import net.sf.jasperreports.export.SimpleExporterInput;
+import net.sf.jasperreports.export.SimpleOutputStreamExporterOutput;
+import net.sf.jasperreports.repo.RepositoryService;
+import net.sf.jasperreports.repo.ReportResource;
+import net.sf.jasperreports.repo.Resource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Loads every report template under classpath:reports once at startup and keeps the JasperReport objects,
+// so a request only pays for fill and export. A template without a usable .jasper is compiled from its .jrxml.
+// Subreports referenced as "reports/<name>.jasper" are served from the same cache through a repository service
+// placed ahead of Jasper's default ones.
+@Slf4j
+@Component
+public class ReportTemplateRegistry {
+
+    private static final String REPORTS_LOCATION = "classpath*:reports/*";
+
+    // Always compile from .jrxml instead of loading the shipped .jasper files (handy while editing templates)
+    @Value("${reports.compile-on-startup:false}")
+    private boolean compileOnStartup;
+
+    private final Map<String, JasperReport> reports = new ConcurrentHashMap<>();
+    private SimpleJasperReportsContext jasperContext;
+
+    @PostConstruct
+    public void init() throws IOException {
+        Map<String, org.springframework.core.io.Resource> compiled = new HashMap<>();
+        Map<String, org.springframework.core.io.Resource> sources = new HashMap<>();
+        for (org.springframework.core.io.Resource resource : new PathMatchingResourcePatternResolver().getResources(REPORTS_LOCATION)) {
+            String filename = resource.getFilename();
+            if (filename == null) {
+                continue;
+            }
+            if (filename.endsWith(".jasper")) {
+                compiled.put(filename.substring(0, filename.length() - ".jasper".length()), resource);
+            } else if (filename.endsWith(".jrxml")) {
+                sources.put(filename.substring(0, filename.length() - ".jrxml".length()), resource);
+            }
+        }
+
+        Set<String> names = new TreeSet<>(compiled.keySet());
+        names.addAll(sources.keySet());
+        for (String name : names) {
+            JasperReport report = load(name, compileOnStartup ? null : compiled.get(name), sources.get(name));
+            if (report != null) {
+                reports.put(name, report);
+            }
+        }
+
+        // Cached templates first; Jasper's default repositories still resolve everything else (images, fonts, files)
+        DefaultJasperReportsContext defaults = DefaultJasperReportsContext.getInstance();
+        List<RepositoryService> repositories = new ArrayList<>();
+        repositories.add(new CachedReportRepository());
+        repositories.addAll(defaults.getExtensions(RepositoryService.class));
+        jasperContext = new SimpleJasperReportsContext(defaults);
+        jasperContext.setExtensions(RepositoryService.class, repositories);
+        log.info("Loaded {} report templates: {}", reports.size(), reports.keySet());
+    }
+
+    public boolean contains(String name) {
+        return reports.containsKey(name);
+    }
+
+    public JasperReport get(String name) {
+        JasperReport report = reports.get(name);
+        if (report == null) {
+            throw new IllegalArgumentException("Report template not found: " + name);
+        }
+        return report;
+    }
+
+    // Context whose repository resolves subreport locations to the cached templates
+    public JasperReportsContext getJasperContext() {
+        return jasperContext;
+    }
+
+    public JasperPrint fill(String name, Map<String, Object> parameters, JRDataSource dataSource) throws JRException {
+        return JasperFillManager.getInstance(jasperContext).fill(get(name), parameters, dataSource);
+    }
+
+    // Writes the PDF page by page to the given stream instead of building the whole document in memory
+    public void exportPdf(JasperPrint jasperPrint, OutputStream out) throws JRException {
+        JRPdfExporter exporter = new JRPdfExporter(jasperContext);
+        exporter.setExporterInput(new SimpleExporterInput(jasperPrint));
+        exporter.setExporterOutput(new SimpleOutputStreamExporterOutput(out));
+        exporter.exportReport();
+    }
+
+    private JasperReport load(String name,
+                              org.springframework.core.io.Resource compiled,
+                              org.springframework.core.io.Resource source) {
+        if (compiled != null) {
+            try (InputStream in = compiled.getInputStream()) {
+                return (JasperReport) JRLoader.loadObject(in);
+            } catch (Exception e) {
+                log.warn("Unable to load {}.jasper, compiling from source: {}", name, e.getMessage());
+            }
+        }
+        if (source != null) {
+            try (InputStream in = source.getInputStream()) {
+                return JasperCompileManager.compileReport(in);
+            } catch (Exception e) {
+                log.error("Unable to compile {}.jrxml: {}", name, e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    // "reports/daily-detail-subreport.jasper" -> "daily-detail-subreport"
+    private static String templateName(String location) {
+        String name = location.substring(location.lastIndexOf('/') + 1);
+        int extension = name.lastIndexOf('.');
+        return extension > 0 ? name.substring(0, extension) : name;
+    }
+
+    private class CachedReportRepository implements RepositoryService {
+
+        @Override
+        public Resource getResource(String uri) {
+            return null;
+        }
+
+        // Templates are compiled once at startup and shared across fills, so writes are ignored rather than
+        // replacing a cached template under a running fill
+        @Override
+        public void saveResource(String uri, Resource resource) {
+            log.warn("Ignoring write of report resource {}: cached report templates are read-only", uri);
+        }
+
+        @Override
+        public <K extends Resource> K getResource(String uri, Class<K> resourceType) {
+            if (uri == null || !resourceType.isAssignableFrom(ReportResource.class)) {
+                return null;
+            }
+            JasperReport report = reports.get(templateName(uri));
+            if (report == null) {
+                return null;
+            }
+            ReportResource resource = new ReportResource();
+            resource.setReport(report);
+            return resourceType.cast(resource);
+        }
+    }
+}
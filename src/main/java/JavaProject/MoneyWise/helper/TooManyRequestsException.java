@@ -0,0 +1,7 @@
+package JavaProject.MoneyWise.helper;
+
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
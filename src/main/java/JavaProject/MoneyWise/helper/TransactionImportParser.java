@@ -0,0 +1,193 @@
+package JavaProject.MoneyWise.helper;
+
+import JavaProject.MoneyWise.models.dtos.transaction.ImportedTransactionRowDTO;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.*;
+import java.util.function.Consumer;
+
+// Streaming readers for bank exports: rows are handed to the consumer one at a time, so only the current
+// record is held in memory (a quoted CSV field may span lines, up to MAX_RECORD_LENGTH characters)
+public class TransactionImportParser {
+
+    public static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    // Accepted CSV header names (case-insensitive) per field
+    private static final Map<String, String> CSV_COLUMNS = Map.ofEntries(
+            Map.entry("date", "date"), Map.entry("transactiondate", "date"),
+            Map.entry("amount", "amount"),
+            Map.entry("type", "type"),
+            Map.entry("description", "description"), Map.entry("memo", "description"), Map.entry("note", "description"),
+            Map.entry("wallet", "wallet"), Map.entry("walletname", "wallet"), Map.entry("walletid", "wallet"),
+            Map.entry("category", "category"), Map.entry("categoryname", "category"), Map.entry("categoryid", "category"));
+
+    private TransactionImportParser() {
+    }
+
+    // Header row first; comma or semicolon separated (picked from the header), RFC 4180 quoting
+    public static void parseCsv(Reader source, Consumer<ImportedTransactionRowDTO> consumer) throws IOException {
+        BufferedReader reader = source instanceof BufferedReader buffered ? buffered : new BufferedReader(source);
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            return;
+        }
+        if (headerLine.startsWith("\uFEFF")) {
+            headerLine = headerLine.substring(1);
+        }
+        char delimiter = csvDelimiter(headerLine);
+
+        List<String> header = splitCsvLine(headerLine, delimiter);
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String field = CSV_COLUMNS.get(header.get(i).trim().toLowerCase(Locale.ROOT).replace("_", "").replace(" ", ""));
+            if (field != null) {
+                positions.putIfAbsent(field, i);
+            }
+        }
+        if (!positions.containsKey("date") || !positions.containsKey("amount")) {
+            throw new IllegalArgumentException("CSV header must contain date and amount columns");
+        }
+
+        long lineNumber = 1;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            long rowLine = lineNumber;
+            // A quoted field may span several physical lines; quote parity is tracked per appended line
+            boolean openQuote = hasOddQuotes(line);
+            StringBuilder record = openQuote ? new StringBuilder(line) : null;
+            while (openQuote) {
+                String next = reader.readLine();
+                if (next == null) {
+                    break;
+                }
+                lineNumber++;
+                record.append('\n').append(next);
+                openQuote ^= hasOddQuotes(next);
+                checkRecordLength(record.length(), rowLine);
+            }
+            if (record != null) {
+                line = record.toString();
+            }
+            checkRecordLength(line.length(), rowLine);
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> values = splitCsvLine(line, delimiter);
+            consumer.accept(new ImportedTransactionRowDTO("line " + rowLine,
+                    value(values, positions.get("date")),
+                    value(values, positions.get("amount")),
+                    value(values, positions.get("type")),
+                    value(values, positions.get("description")),
+                    value(values, positions.get("wallet")),
+                    value(values, positions.get("category"))));
+        }
+    }
+
+    // Semicolon when the header uses it and has no comma (locales with a decimal comma), comma otherwise
+    public static char csvDelimiter(String headerLine) {
+        return headerLine.indexOf(';') >= 0 && headerLine.indexOf(',') < 0 ? ';' : ',';
+    }
+
+    // OFX 1.x (SGML, closing tags optional) and 2.x (XML): each <STMTTRN> aggregate becomes one row;
+    // TRNAMT is signed, so the type is left to the importer
+    public static void parseOfx(Reader source, Consumer<ImportedTransactionRowDTO> consumer) throws IOException {
+        BufferedReader reader = source instanceof BufferedReader buffered ? buffered : new BufferedReader(source);
+        Map<String, String> current = null;
+        long position = 0;
+        int c = reader.read();
+        while (c != -1) {
+            if (c != '<') {
+                c = reader.read();
+                continue;
+            }
+            StringBuilder tag = new StringBuilder();
+            while ((c = reader.read()) != -1 && c != '>') {
+                tag.append((char) c);
+            }
+            StringBuilder text = new StringBuilder();
+            while (c != -1 && (c = reader.read()) != -1 && c != '<') {
+                text.append((char) c);
+            }
+
+            String name = tag.toString().trim().toUpperCase(Locale.ROOT);
+            if (name.equals("STMTTRN")) {
+                current = new HashMap<>();
+            } else if (name.equals("/STMTTRN")) {
+                if (current != null) {
+                    String memo = current.get("MEMO");
+                    consumer.accept(new ImportedTransactionRowDTO("transaction " + ++position,
+                            current.get("DTPOSTED"),
+                            current.get("TRNAMT"),
+                            null,
+                            memo != null && !memo.isBlank() ? memo : current.get("NAME"),
+                            null,
+                            null));
+                }
+                current = null;
+            } else if (current != null && !name.startsWith("/")) {
+                current.put(name, unescapeOfx(text.toString().trim()));
+            }
+        }
+    }
+
+    private static String value(List<String> values, Integer position) {
+        if (position == null || position >= values.size()) {
+            return null;
+        }
+        String value = values.get(position).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static void checkRecordLength(int length, long startLine) {
+        if (length > MAX_RECORD_LENGTH) {
+            throw new IllegalArgumentException("CSV record starting at line " + startLine + " is longer than "
+                    + MAX_RECORD_LENGTH / 1024 + " KB; check for an unclosed quote");
+        }
+    }
+
+    private static boolean hasOddQuotes(String line) {
+        int quotes = 0;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') {
+                quotes++;
+            }
+        }
+        return quotes % 2 != 0;
+    }
+
+    private static List<String> splitCsvLine(String line, char delimiter) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char ch = line.charAt(i);
+            if (quoted) {
+                if (ch == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (ch == '"') {
+                    quoted = false;
+                } else {
+                    current.append(ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == delimiter) {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(ch);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private static String unescapeOfx(String value) {
+        return value.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"")
+                .replace("&apos;", "'").replace("&amp;", "&");
+    }
+}
@@ -0,0 +1,23 @@
+package JavaProject.MoneyWise.models.dtos.report;
+
+import JavaProject.MoneyWise.models.enums.ReportJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJobDTO {
+    private UUID jobId;
+    private String type;
+    private ReportJobStatus status;
+    private String fileName;
+    private String error; // set when status is FAILED
+    private Instant createdAt;
+    private Instant completedAt;
+    private Instant expiresAt; // the spooled PDF is deleted after this time
+}
@@ -0,0 +1,15 @@
+package JavaProject.MoneyWise.models.dtos.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+// Report data flattened to named columns; rows are consumed once, in order, by a ReportExporter
+@Getter
+@AllArgsConstructor
+public class ReportTable {
+    private List<String> columns;
+    private Stream<List<Object>> rows;
+}
@@ -0,0 +1,19 @@
+package JavaProject.MoneyWise.models.dtos.statistic;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+// Sum of transaction amounts per category or wallet and type, produced by a GROUP BY query
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BreakdownTotalDTO {
+    private UUID id;
+    private String name;
+    private String type;
+    private BigDecimal total;
+}
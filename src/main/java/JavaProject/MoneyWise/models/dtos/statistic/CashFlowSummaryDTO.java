@@ -5,11 +5,18 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.function.UnaryOperator;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class CashFlowSummaryDTO {
+public class CashFlowSummaryDTO implements MonetaryConvertible {
     private BigDecimal totalIncome;
     private BigDecimal totalExpenses;
-}
\ No newline at end of file
+
+    @Override
+    public void convertAmounts(UnaryOperator<BigDecimal> converter) {
+        totalIncome = converter.apply(totalIncome);
+        totalExpenses = converter.apply(totalExpenses);
+    }
+}
@@ -5,11 +5,12 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.function.UnaryOperator;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class CategoryBreakdownDTO {
+public class CategoryBreakdownDTO implements MonetaryConvertible {
     private String category = "";
     private BigDecimal totalIncome;
     private BigDecimal totalExpense;
@@ -19,4 +20,14 @@ public class CategoryBreakdownDTO {
     private BigDecimal budgetCurrentSpending;
     private BigDecimal goalTarget;
     private BigDecimal goalSaved;
-}
\ No newline at end of file
+
+    @Override
+    public void convertAmounts(UnaryOperator<BigDecimal> converter) {
+        totalIncome = converter.apply(totalIncome);
+        totalExpense = converter.apply(totalExpense);
+        budgetLimit = converter.apply(budgetLimit);
+        budgetCurrentSpending = converter.apply(budgetCurrentSpending);
+        goalTarget = converter.apply(goalTarget);
+        goalSaved = converter.apply(goalSaved);
+    }
+}
@@ -7,12 +7,22 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class DailySummaryDTO {
+public class DailySummaryDTO implements MonetaryConvertible {
     private List<DailyDetailDTO> dailyDetails;
     private BigDecimal totalIncome;
     private BigDecimal totalExpenses;
-}
\ No newline at end of file
+
+    @Override
+    public void convertAmounts(UnaryOperator<BigDecimal> converter) {
+        totalIncome = converter.apply(totalIncome);
+        totalExpenses = converter.apply(totalExpenses);
+        if (dailyDetails != null) {
+            dailyDetails.forEach(detail -> detail.convertAmounts(converter));
+        }
+    }
+}
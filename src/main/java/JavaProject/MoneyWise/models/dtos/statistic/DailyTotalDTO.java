@@ -0,0 +1,18 @@
+package JavaProject.MoneyWise.models.dtos.statistic;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Sum of transaction amounts per calendar day and type, produced by a GROUP BY query
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyTotalDTO {
+    private LocalDate day;
+    private String type;
+    private BigDecimal total;
+}
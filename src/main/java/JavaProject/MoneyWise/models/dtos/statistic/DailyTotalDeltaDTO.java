@@ -0,0 +1,22 @@
+package JavaProject.MoneyWise.models.dtos.statistic;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+// Change to one (wallet, category, day, type) bucket of the daily rollup, summed over many transactions
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyTotalDeltaDTO {
+    private UUID walletId;
+    private UUID categoryId;
+    private LocalDate day;
+    private String type; // lower-case
+    private BigDecimal amount;
+    private long count;
+}
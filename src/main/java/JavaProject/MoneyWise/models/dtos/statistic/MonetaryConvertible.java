@@ -0,0 +1,9 @@
+package JavaProject.MoneyWise.models.dtos.statistic;
+
+import java.math.BigDecimal;
+import java.util.function.UnaryOperator;
+
+// Statistic DTOs that carry money amounts; the report converter rescales them in place
+public interface MonetaryConvertible {
+    void convertAmounts(UnaryOperator<BigDecimal> converter);
+}
@@ -5,11 +5,12 @@ import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.function.UnaryOperator;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class MonthlyDetailDTO {
+public class MonthlyDetailDTO implements MonetaryConvertible {
 
     private String monthName;
 
@@ -17,4 +18,9 @@ public class MonthlyDetailDTO {
 
     private BigDecimal expense;
 
+    @Override
+    public void convertAmounts(UnaryOperator<BigDecimal> converter) {
+        income = converter.apply(income);
+        expense = converter.apply(expense);
+    }
 }
@@ -6,12 +6,22 @@ import lombok.AllArgsConstructor;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class MonthlySummaryDTO {
+public class MonthlySummaryDTO implements MonetaryConvertible {
     private List<MonthlyDetailDTO> monthlyDetails;
     private BigDecimal totalIncome;
     private BigDecimal totalExpenses;
+
+    @Override
+    public void convertAmounts(UnaryOperator<BigDecimal> converter) {
+        totalIncome = converter.apply(totalIncome);
+        totalExpenses = converter.apply(totalExpenses);
+        if (monthlyDetails != null) {
+            monthlyDetails.forEach(detail -> detail.convertAmounts(converter));
+        }
+    }
 }
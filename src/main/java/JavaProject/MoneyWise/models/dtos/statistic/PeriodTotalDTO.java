@@ -0,0 +1,17 @@
+package JavaProject.MoneyWise.models.dtos.statistic;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// Sum of transaction amounts per period (month number or year) and type, produced by a GROUP BY query
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PeriodTotalDTO {
+    private Integer period;
+    private String type;
+    private BigDecimal total;
+}
@@ -0,0 +1,16 @@
+package JavaProject.MoneyWise.models.dtos.statistic;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// Sum of transaction amounts per type (lower-cased), produced by a GROUP BY query
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TypeTotalDTO {
+    private String type;
+    private BigDecimal total;
+}
@@ -5,11 +5,12 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.function.UnaryOperator;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class WalletBreakdownDTO {
+public class WalletBreakdownDTO implements MonetaryConvertible {
     private String walletName = "";
     private BigDecimal totalIncome;
     private BigDecimal totalExpense;
@@ -19,4 +20,14 @@ public class WalletBreakdownDTO {
     private BigDecimal budgetCurrentSpending;
     private BigDecimal goalTarget;
     private BigDecimal goalSaved;
+
+    @Override
+    public void convertAmounts(UnaryOperator<BigDecimal> converter) {
+        totalIncome = converter.apply(totalIncome);
+        totalExpense = converter.apply(totalExpense);
+        budgetLimit = converter.apply(budgetLimit);
+        budgetCurrentSpending = converter.apply(budgetCurrentSpending);
+        goalTarget = converter.apply(goalTarget);
+        goalSaved = converter.apply(goalSaved);
+    }
 }
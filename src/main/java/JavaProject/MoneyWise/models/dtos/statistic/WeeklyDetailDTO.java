@@ -5,11 +5,12 @@ import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.function.UnaryOperator;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class WeeklyDetailDTO {
+public class WeeklyDetailDTO implements MonetaryConvertible {
 
     private String weekNumber;
 
@@ -17,5 +18,9 @@ public class WeeklyDetailDTO {
 
     private BigDecimal expense;
 
+    @Override
+    public void convertAmounts(UnaryOperator<BigDecimal> converter) {
+        income = converter.apply(income);
+        expense = converter.apply(expense);
+    }
 }
-
@@ -7,13 +7,23 @@ import lombok.AllArgsConstructor;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class WeeklySummaryDTO {
+public class WeeklySummaryDTO implements MonetaryConvertible {
     private List<WeeklyDetailDTO> weeklyDetails;
     private BigDecimal totalIncome;
     private BigDecimal totalExpenses;
+
+    @Override
+    public void convertAmounts(UnaryOperator<BigDecimal> converter) {
+        totalIncome = converter.apply(totalIncome);
+        totalExpenses = converter.apply(totalExpenses);
+        if (weeklyDetails != null) {
+            weeklyDetails.forEach(detail -> detail.convertAmounts(converter));
+        }
+    }
 }
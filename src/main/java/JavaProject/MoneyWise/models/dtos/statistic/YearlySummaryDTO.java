@@ -6,12 +6,22 @@ import lombok.AllArgsConstructor;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class YearlySummaryDTO {
+public class YearlySummaryDTO implements MonetaryConvertible {
     private List<YearlyDetailDTO> yearlyDetails;
     private BigDecimal totalIncome;
     private BigDecimal totalExpenses;
+
+    @Override
+    public void convertAmounts(UnaryOperator<BigDecimal> converter) {
+        totalIncome = converter.apply(totalIncome);
+        totalExpenses = converter.apply(totalExpenses);
+        if (yearlyDetails != null) {
+            yearlyDetails.forEach(detail -> detail.convertAmounts(converter));
+        }
+    }
 }
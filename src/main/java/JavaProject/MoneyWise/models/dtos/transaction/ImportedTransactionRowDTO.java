@@ -0,0 +1,19 @@
+package JavaProject.MoneyWise.models.dtos.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One transaction as read from an import file, still unvalidated text; wallet/category hold a name or id
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportedTransactionRowDTO {
+    private String location; // "line N" of a CSV file, or "transaction N" for the Nth STMTTRN of an OFX statement
+    private String date;
+    private String amount;
+    private String type;
+    private String description;
+    private String wallet;
+    private String category;
+}
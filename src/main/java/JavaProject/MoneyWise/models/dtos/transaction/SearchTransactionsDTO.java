@@ -1,5 +1,7 @@
 package JavaProject.MoneyWise.models.dtos.transaction;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -22,6 +24,15 @@ public class SearchTransactionsDTO {
     private String walletName;
     private String amountRange;
     private String keywords;
+
+    // "contains" (default): substring match; "fulltext": ranked word-prefix match
+    @Pattern(regexp = "contains|fulltext", flags = Pattern.Flag.CASE_INSENSITIVE)
+    private String searchMode;
     private String timeRange;
     private String dayOfWeek;
+
+    // Maximum number of results, newest first (defaults to 500); more matches set X-Results-Truncated
+    @Min(1)
+    @Max(500)
+    private Integer limit;
 }
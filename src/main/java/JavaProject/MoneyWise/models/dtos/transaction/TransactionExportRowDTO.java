@@ -0,0 +1,24 @@
+package JavaProject.MoneyWise.models.dtos.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Flat, unmanaged row of the transaction export; built by a JPQL constructor expression so streaming
+// through the whole history never fills the persistence context
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionExportRowDTO {
+    private UUID transactionId;
+    private LocalDateTime transactionDate;
+    private String type;
+    private BigDecimal amount;
+    private String description;
+    private String walletName;
+    private String categoryName;
+}
@@ -0,0 +1,17 @@
+package JavaProject.MoneyWise.models.dtos.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionImportResultDTO {
+    private int importedCount;
+    private int walletCount;
+    private LocalDateTime firstTransactionDate;
+    private LocalDateTime lastTransactionDate;
+}
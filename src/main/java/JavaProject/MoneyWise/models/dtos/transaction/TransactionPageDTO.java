@@ -0,0 +1,17 @@
+package JavaProject.MoneyWise.models.dtos.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// One keyset page of transactions, newest first; pass nextCursor back to get the following page
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionPageDTO {
+    private List<TransactionDTO> items;
+    private String nextCursor; // null on the last page
+    private boolean hasMore;
+}
@@ -0,0 +1,16 @@
+package JavaProject.MoneyWise.models.dtos.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Search results, newest first; truncated is set when more rows matched than the requested limit
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionSearchResultDTO {
+    private List<TransactionDetailDTO> items;
+    private boolean truncated;
+}
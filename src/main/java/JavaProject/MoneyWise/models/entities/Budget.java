@@ -14,7 +14,13 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "budgets")
+@Table(
+    name = "budgets",
+    indexes = {
+        @Index(name = "idx_budgets_category_wallet_period", columnList = "category_id, wallet_id, start_date, end_date"),
+        @Index(name = "idx_budgets_wallet_period", columnList = "wallet_id, start_date, end_date")
+    }
+)
 @ToString(exclude = { "category", "wallet" })
 public class Budget {
     @Id
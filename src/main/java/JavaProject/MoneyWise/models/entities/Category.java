@@ -10,7 +10,10 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "categories")
+@Table(
+    name = "categories",
+    indexes = @Index(name = "idx_categories_user", columnList = "user_id")
+)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,53 @@
+package JavaProject.MoneyWise.models.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+// Pre-summed transactions per (wallet, category, day, type), kept in step by TransactionServiceImpl
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(
+    name = "daily_wallet_category_totals",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"wallet_id", "category_id", "day", "type"}),
+    indexes = @Index(name = "idx_daily_totals_wallet_day", columnList = "wallet_id, day")
+)
+@ToString(exclude = { "wallet", "category" })
+public class DailyWalletCategoryTotal {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID totalId;
+
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "wallet_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Wallet wallet;
+
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "category_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Category category;
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    // Lower-cased transaction type ("income" or "expense")
+    @Column(nullable = false)
+    private String type;
+
+    @Column(nullable = false)
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
+    @Column(nullable = false)
+    private long transactionCount;
+}
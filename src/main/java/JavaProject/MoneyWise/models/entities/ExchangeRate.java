@@ -0,0 +1,39 @@
+package JavaProject.MoneyWise.models.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Last known exchange rate per currency pair, so a cold start or an API outage can still convert
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(
+    name = "exchange_rates",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"base_currency", "quote_currency"})
+)
+public class ExchangeRate {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID rateId;
+
+    // ISO 4217 codes, upper-case
+    @Column(nullable = false, length = 3)
+    private String baseCurrency;
+
+    @Column(nullable = false, length = 3)
+    private String quoteCurrency;
+
+    // Units of quoteCurrency for one unit of baseCurrency
+    @Column(nullable = false, precision = 38, scale = 10)
+    private BigDecimal rate;
+
+    @Column(nullable = false)
+    private LocalDateTime fetchedAt;
+}
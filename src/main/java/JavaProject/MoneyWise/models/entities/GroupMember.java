@@ -13,7 +13,8 @@ import java.util.UUID;
 @Entity
 @Table(
     name = "group_members",
-    uniqueConstraints = @UniqueConstraint(columnNames = {"group_id", "user_id"})
+    uniqueConstraints = @UniqueConstraint(columnNames = {"group_id", "user_id"}),
+    indexes = @Index(name = "idx_group_members_user", columnList = "user_id")
 )
 @ToString(exclude = {"group","user"})
 @EqualsAndHashCode(exclude = {"group","user"})
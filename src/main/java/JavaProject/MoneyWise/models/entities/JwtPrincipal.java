@@ -0,0 +1,21 @@
+package JavaProject.MoneyWise.models.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.security.Principal;
+import java.util.UUID;
+
+// Principal built from verified access-token claims only (stateless authentication), no database row behind it
+@Getter
+@AllArgsConstructor
+public class JwtPrincipal implements Principal, Serializable {
+    private final UUID userId;
+    private final String username;
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
@@ -15,7 +15,13 @@ import java.util.UUID;
 @AllArgsConstructor
 @Entity
 @ToString(exclude = { "category", "wallet" })
-@Table(name = "savingGoals")
+@Table(
+    name = "savingGoals",
+    indexes = {
+        @Index(name = "idx_saving_goals_category_wallet_period", columnList = "category_id, wallet_id, start_date, end_date"),
+        @Index(name = "idx_saving_goals_wallet_period", columnList = "wallet_id, start_date, end_date")
+    }
+)
 public class SavingGoal {
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
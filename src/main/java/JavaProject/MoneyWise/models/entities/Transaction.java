@@ -10,7 +10,13 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "transactions")
+@Table(
+    name = "transactions",
+    indexes = {
+        @Index(name = "idx_transactions_wallet_date", columnList = "wallet_id, transaction_date"),
+        @Index(name = "idx_transactions_category", columnList = "category_id")
+    }
+)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -14,8 +14,12 @@ import java.util.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString(exclude = {"password", "roles"})
+// Identity is the primary key, so a User resolved by the authentication filter (outside the service's
+// persistence context) still equals the managed instance reached through wallet.getUser() and friends.
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class User {
     @Id
+    @EqualsAndHashCode.Include
     @GeneratedValue // value will be generated automatically.
     @UuidGenerator // specifies that a UUID should be used as the generated value.
     @Column(name = "id", updatable = false, nullable = false)
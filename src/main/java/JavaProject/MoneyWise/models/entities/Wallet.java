@@ -10,7 +10,10 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "wallets")
+@Table(
+    name = "wallets",
+    indexes = @Index(name = "idx_wallets_user", columnList = "user_id")
+)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,8 @@
+package JavaProject.MoneyWise.models.enums;
+
+public enum ReportJobStatus {
+    QUEUED,     // accepted, waiting for a report worker
+    RUNNING,    // being filled and exported
+    COMPLETED,  // PDF spooled, ready for download
+    FAILED      // see ReportJobDTO.error
+}
@@ -11,6 +11,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,10 +26,29 @@ public interface BudgetRepository extends JpaRepository<Budget, UUID> {
             "AND :transactionDate BETWEEN ub.startDate AND ub.endDate")
     void updateCurrentSpending(Category category, Wallet wallet, BigDecimal amount, LocalDateTime transactionDate);
 
-    List<Budget> findByCategoryAndWalletUserAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
-            Category category, User user, LocalDateTime startDate, LocalDateTime endDate);
+    // Budgets of the given categories overlapping [startDate, endDate], fetched in one query
+    @Query("SELECT b FROM Budget b JOIN FETCH b.category c JOIN FETCH b.wallet w " +
+            "WHERE c.categoryId IN :categoryIds AND w.user = :user " +
+            "AND b.startDate <= :endDate AND b.endDate >= :startDate")
+    List<Budget> findOverlappingByCategoryIds(Collection<UUID> categoryIds, User user,
+                                              LocalDateTime startDate, LocalDateTime endDate);
 
     List<Budget> findByWalletUser(User user);
 
-    List<Budget> findByWalletAndStartDateLessThanEqualAndEndDateGreaterThanEqual(Wallet wallet, LocalDateTime localDateTime, LocalDateTime localDateTime1);
+    // Budgets of the given wallets overlapping [startDate, endDate], fetched in one query
+    @Query("SELECT b FROM Budget b JOIN FETCH b.category JOIN FETCH b.wallet w " +
+            "WHERE w.walletId IN :walletIds " +
+            "AND b.startDate <= :endDate AND b.endDate >= :startDate")
+    List<Budget> findOverlappingByWalletIds(Collection<UUID> walletIds,
+                                            LocalDateTime startDate, LocalDateTime endDate);
+
+    // Every budget of the user's wallets with wallet and category loaded, for matching imported rows in memory
+    @Query("SELECT b FROM Budget b JOIN FETCH b.category JOIN FETCH b.wallet w WHERE w.user = :user")
+    List<Budget> findAllWithWalletAndCategoryByUser(User user);
+
+    // Applies an aggregated delta, e.g. the sum of all imported rows falling into this budget
+    @Modifying
+    @Transactional
+    @Query("UPDATE Budget b SET b.currentSpending = b.currentSpending + :amount WHERE b.budgetId = :budgetId")
+    void addToCurrentSpending(UUID budgetId, BigDecimal amount);
 }
@@ -0,0 +1,114 @@
+package JavaProject.MoneyWise.repositories;
+
+import JavaProject.MoneyWise.models.dtos.statistic.BreakdownTotalDTO;
+import JavaProject.MoneyWise.models.dtos.statistic.DailyTotalDTO;
+import JavaProject.MoneyWise.models.dtos.statistic.PeriodTotalDTO;
+import JavaProject.MoneyWise.models.dtos.statistic.TypeTotalDTO;
+import JavaProject.MoneyWise.models.entities.DailyWalletCategoryTotal;
+import JavaProject.MoneyWise.models.entities.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface DailyWalletCategoryTotalRepository extends JpaRepository<DailyWalletCategoryTotal, UUID> {
+
+    // Adds amount/count to the (wallet, category, day, type) bucket, creating it on first use
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO daily_wallet_category_totals " +
+            "(total_id, wallet_id, category_id, day, type, total_amount, transaction_count) " +
+            "VALUES (gen_random_uuid(), :walletId, :categoryId, :day, :type, :amount, :count) " +
+            "ON CONFLICT (wallet_id, category_id, day, type) DO UPDATE SET " +
+            "total_amount = daily_wallet_category_totals.total_amount + EXCLUDED.total_amount, " +
+            "transaction_count = daily_wallet_category_totals.transaction_count + EXCLUDED.transaction_count",
+            nativeQuery = true)
+    void applyDelta(UUID walletId, UUID categoryId, LocalDate day, String type, BigDecimal amount, long count);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM DailyWalletCategoryTotal d WHERE d.wallet.walletId = :walletId " +
+            "AND d.category.categoryId = :categoryId AND d.day = :day AND d.type = :type " +
+            "AND d.transactionCount <= 0")
+    void deleteIfEmpty(UUID walletId, UUID categoryId, LocalDate day, String type);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM daily_wallet_category_totals", nativeQuery = true)
+    void deleteAllTotals();
+
+    // Recomputes every bucket from the transactions table, used by the admin repair endpoint
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO daily_wallet_category_totals " +
+            "(total_id, wallet_id, category_id, day, type, total_amount, transaction_count) " +
+            "SELECT gen_random_uuid(), t.wallet_id, t.category_id, CAST(t.transaction_date AS date), " +
+            "lower(t.type), SUM(t.amount), COUNT(*) " +
+            "FROM transactions t WHERE t.type IS NOT NULL " +
+            "GROUP BY t.wallet_id, t.category_id, CAST(t.transaction_date AS date), lower(t.type)",
+            nativeQuery = true)
+    int rebuildFromTransactions();
+
+    @Query("SELECT new JavaProject.MoneyWise.models.dtos.statistic.TypeTotalDTO(d.type, sum(d.totalAmount)) " +
+            "FROM DailyWalletCategoryTotal d WHERE d.wallet.user = :user " +
+            "AND d.day BETWEEN :startDate AND :endDate " +
+            "GROUP BY d.type")
+    List<TypeTotalDTO> sumByType(@Param("user") User user,
+                                 @Param("startDate") LocalDate startDate,
+                                 @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT new JavaProject.MoneyWise.models.dtos.statistic.DailyTotalDTO(d.day, d.type, sum(d.totalAmount)) " +
+            "FROM DailyWalletCategoryTotal d WHERE d.wallet.user = :user " +
+            "AND d.day BETWEEN :startDate AND :endDate " +
+            "GROUP BY d.day, d.type")
+    List<DailyTotalDTO> sumByDayAndType(@Param("user") User user,
+                                        @Param("startDate") LocalDate startDate,
+                                        @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT new JavaProject.MoneyWise.models.dtos.statistic.PeriodTotalDTO(" +
+            "extract(month from d.day), d.type, sum(d.totalAmount)) " +
+            "FROM DailyWalletCategoryTotal d WHERE d.wallet.user = :user " +
+            "AND d.day BETWEEN :startDate AND :endDate " +
+            "GROUP BY extract(month from d.day), d.type")
+    List<PeriodTotalDTO> sumByMonthAndType(@Param("user") User user,
+                                           @Param("startDate") LocalDate startDate,
+                                           @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT new JavaProject.MoneyWise.models.dtos.statistic.PeriodTotalDTO(" +
+            "extract(year from d.day), d.type, sum(d.totalAmount)) " +
+            "FROM DailyWalletCategoryTotal d WHERE d.wallet.user = :user " +
+            "AND d.day BETWEEN :startDate AND :endDate " +
+            "GROUP BY extract(year from d.day), d.type")
+    List<PeriodTotalDTO> sumByYearAndType(@Param("user") User user,
+                                          @Param("startDate") LocalDate startDate,
+                                          @Param("endDate") LocalDate endDate);
+
+    // Breakdown aggregates; type is an optional lower-case filter ("income"/"expense"), null for both
+    @Query("SELECT new JavaProject.MoneyWise.models.dtos.statistic.BreakdownTotalDTO(" +
+            "c.categoryId, c.name, d.type, sum(d.totalAmount)) " +
+            "FROM DailyWalletCategoryTotal d JOIN d.category c WHERE d.wallet.user = :user " +
+            "AND d.day BETWEEN :startDate AND :endDate " +
+            "AND (:type IS NULL OR d.type = :type) " +
+            "GROUP BY c.categoryId, c.name, d.type")
+    List<BreakdownTotalDTO> sumByCategoryAndType(@Param("user") User user,
+                                                 @Param("startDate") LocalDate startDate,
+                                                 @Param("endDate") LocalDate endDate,
+                                                 @Param("type") String type);
+
+    @Query("SELECT new JavaProject.MoneyWise.models.dtos.statistic.BreakdownTotalDTO(" +
+            "w.walletId, w.walletName, d.type, sum(d.totalAmount)) " +
+            "FROM DailyWalletCategoryTotal d JOIN d.wallet w WHERE w.user = :user " +
+            "AND d.day BETWEEN :startDate AND :endDate " +
+            "AND (:type IS NULL OR d.type = :type) " +
+            "GROUP BY w.walletId, w.walletName, d.type")
+    List<BreakdownTotalDTO> sumByWalletAndType(@Param("user") User user,
+                                               @Param("startDate") LocalDate startDate,
+                                               @Param("endDate") LocalDate endDate,
+                                               @Param("type") String type);
+}
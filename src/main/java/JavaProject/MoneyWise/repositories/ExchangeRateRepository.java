@@ -0,0 +1,11 @@
+package JavaProject.MoneyWise.repositories;
+
+import JavaProject.MoneyWise.models.entities.ExchangeRate;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ExchangeRateRepository extends JpaRepository<ExchangeRate, UUID> {
+    List<ExchangeRate> findAllByBaseCurrency(String baseCurrency);
+}
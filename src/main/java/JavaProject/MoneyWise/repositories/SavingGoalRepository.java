@@ -11,6 +11,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,10 +26,29 @@ public interface SavingGoalRepository extends JpaRepository<SavingGoal, UUID> {
             "AND :transactionDate BETWEEN usg.startDate AND usg.endDate")
     void updateSavedAmount(Category category, Wallet wallet, BigDecimal amount, LocalDateTime transactionDate);
 
-    List<SavingGoal> findByCategoryAndWalletUserAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
-            Category category, User user, LocalDateTime startDate, LocalDateTime endDate);
+    // Saving goals of the given categories overlapping [startDate, endDate], fetched in one query
+    @Query("SELECT g FROM SavingGoal g JOIN FETCH g.category c JOIN FETCH g.wallet w " +
+            "WHERE c.categoryId IN :categoryIds AND w.user = :user " +
+            "AND g.startDate <= :endDate AND g.endDate >= :startDate")
+    List<SavingGoal> findOverlappingByCategoryIds(Collection<UUID> categoryIds, User user,
+                                                  LocalDateTime startDate, LocalDateTime endDate);
 
     List<SavingGoal> findByWalletUser(User currentUser);
 
-    List<SavingGoal> findByWalletAndStartDateLessThanEqualAndEndDateGreaterThanEqual(Wallet wallet, LocalDateTime localDateTime, LocalDateTime localDateTime1);
-}
\ No newline at end of file
+    // Saving goals of the given wallets overlapping [startDate, endDate], fetched in one query
+    @Query("SELECT g FROM SavingGoal g JOIN FETCH g.category JOIN FETCH g.wallet w " +
+            "WHERE w.walletId IN :walletIds " +
+            "AND g.startDate <= :endDate AND g.endDate >= :startDate")
+    List<SavingGoal> findOverlappingByWalletIds(Collection<UUID> walletIds,
+                                                LocalDateTime startDate, LocalDateTime endDate);
+
+    // Every saving goal of the user's wallets with wallet and category loaded, for matching imported rows in memory
+    @Query("SELECT g FROM SavingGoal g JOIN FETCH g.category JOIN FETCH g.wallet w WHERE w.user = :user")
+    List<SavingGoal> findAllWithWalletAndCategoryByUser(User user);
+
+    // Applies an aggregated delta, e.g. the sum of all imported rows falling into this goal
+    @Modifying
+    @Transactional
+    @Query("UPDATE SavingGoal g SET g.savedAmount = g.savedAmount + :amount WHERE g.savingGoalId = :savingGoalId")
+    void addToSavedAmount(UUID savingGoalId, BigDecimal amount);
+}
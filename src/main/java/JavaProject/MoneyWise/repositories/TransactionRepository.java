@@ -1,28 +1,67 @@
 package JavaProject.MoneyWise.repositories;
 
+import JavaProject.MoneyWise.models.dtos.transaction.TransactionExportRowDTO;
 import JavaProject.MoneyWise.models.entities.Transaction;
 import JavaProject.MoneyWise.models.entities.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface TransactionRepository extends JpaRepository<Transaction, UUID> {
+public interface TransactionRepository extends JpaRepository<Transaction, UUID>, JpaSpecificationExecutor<Transaction> {
     List<Transaction> findByWalletWalletId(UUID walletId);
 
     // Find all transactions for every wallet that belongs to the given user.
     @Query("SELECT t FROM Transaction t WHERE t.wallet.user = :user")
     List<Transaction> findAllByWalletUser(@Param("user") User user);
 
-    @Query("SELECT t FROM Transaction t WHERE t.wallet.user = :user AND t.category.user = :user")
-    List<Transaction> findAllByWalletUserAndCategoryUser(@Param("user") User user);
+    // Keyset pages ordered by (transactionDate, transactionId) descending; the "After" variants
+    // continue strictly after the last row of the previous page.
+    @Query("SELECT t FROM Transaction t WHERE t.wallet.user = :user " +
+            "ORDER BY t.transactionDate DESC, t.transactionId DESC")
+    List<Transaction> findFirstPageByWalletUser(@Param("user") User user, Pageable pageable);
+
+    @Query("SELECT t FROM Transaction t WHERE t.wallet.user = :user " +
+            "AND (t.transactionDate < :lastDate OR (t.transactionDate = :lastDate AND t.transactionId < :lastId)) " +
+            "ORDER BY t.transactionDate DESC, t.transactionId DESC")
+    List<Transaction> findPageByWalletUserAfter(@Param("user") User user,
+                                                @Param("lastDate") LocalDateTime lastDate,
+                                                @Param("lastId") UUID lastId,
+                                                Pageable pageable);
+
+    @Query("SELECT t FROM Transaction t WHERE t.wallet.walletId = :walletId " +
+            "ORDER BY t.transactionDate DESC, t.transactionId DESC")
+    List<Transaction> findFirstPageByWalletId(@Param("walletId") UUID walletId, Pageable pageable);
+
+    @Query("SELECT t FROM Transaction t WHERE t.wallet.walletId = :walletId " +
+            "AND (t.transactionDate < :lastDate OR (t.transactionDate = :lastDate AND t.transactionId < :lastId)) " +
+            "ORDER BY t.transactionDate DESC, t.transactionId DESC")
+    List<Transaction> findPageByWalletIdAfter(@Param("walletId") UUID walletId,
+                                              @Param("lastDate") LocalDateTime lastDate,
+                                              @Param("lastId") UUID lastId,
+                                              Pageable pageable);
 
     List<Transaction> findByWalletWalletIdInAndTransactionDateBetween(List<UUID> walletIds, LocalDateTime startOfDay, LocalDateTime endOfDay);
 
     List<Transaction> findByWalletWalletIdInAndTransactionDateAfter(List<UUID> userWalletIds, LocalDateTime startDateTime);
 
     List<Transaction> findByWalletWalletIdInAndTransactionDateBefore(List<UUID> userWalletIds, LocalDateTime endDateTime);
+
+    // Forward-only cursor over a user's whole history, oldest first: with a fetch size inside a transaction the
+    // PostgreSQL driver pulls rows in batches instead of materializing the result. Close the stream when done.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new JavaProject.MoneyWise.models.dtos.transaction.TransactionExportRowDTO(" +
+            "t.transactionId, t.transactionDate, t.type, t.amount, t.description, w.walletName, c.name) " +
+            "FROM Transaction t JOIN t.wallet w JOIN t.category c WHERE w.user.id = :userId " +
+            "ORDER BY t.transactionDate, t.transactionId")
+    Stream<TransactionExportRowDTO> streamExportRowsByUserId(@Param("userId") UUID userId);
 }
@@ -2,6 +2,10 @@ package JavaProject.MoneyWise.repositories;
 
 import JavaProject.MoneyWise.models.entities.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -10,4 +14,17 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByUsername(String username); // Added for userId lookup
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+
+    // Enabled flag only, without loading the user or its EAGER roles
+    @Query("SELECT u.enabled FROM User u WHERE u.id = :id")
+    Optional<Boolean> findEnabledById(@Param("id") UUID id);
+
+    // Report cache version (V6 migration); not mapped on User so entity saves never write it back
+    @Query(value = "SELECT data_version FROM users WHERE id = :id", nativeQuery = true)
+    Optional<Long> findDataVersionById(@Param("id") UUID id);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE users SET data_version = data_version + 1 WHERE id = :id", nativeQuery = true)
+    void incrementDataVersion(@Param("id") UUID id);
 }
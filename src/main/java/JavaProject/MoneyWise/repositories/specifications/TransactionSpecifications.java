@@ -0,0 +1,192 @@
+package JavaProject.MoneyWise.repositories.specifications;
+
+import JavaProject.MoneyWise.models.dtos.transaction.SearchTransactionsDTO;
+import JavaProject.MoneyWise.models.entities.Category;
+import JavaProject.MoneyWise.models.entities.Transaction;
+import JavaProject.MoneyWise.models.entities.User;
+import JavaProject.MoneyWise.models.entities.Wallet;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// Translates SearchTransactionsDTO filters into SQL predicates.
+// Malformed amount/time/day filters are ignored, as the in-memory search used to do.
+public final class TransactionSpecifications {
+
+    public static final String FULL_TEXT_MODE = "fulltext";
+
+    private TransactionSpecifications() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Specification<Transaction> matching(User user, SearchTransactionsDTO filter) {
+        return (root, query, cb) -> {
+            Join<Transaction, Wallet> wallet;
+            Join<Transaction, Category> category;
+            // Fetch wallet and category with the rows (needed by the mapper), but never in a count query
+            if (query != null && Long.class != query.getResultType() && long.class != query.getResultType()) {
+                wallet = (Join<Transaction, Wallet>) root.<Transaction, Wallet>fetch("wallet", JoinType.INNER);
+                category = (Join<Transaction, Category>) root.<Transaction, Category>fetch("category", JoinType.INNER);
+            } else {
+                wallet = root.join("wallet", JoinType.INNER);
+                category = root.join("category", JoinType.INNER);
+            }
+
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(wallet.get("user"), user));
+            predicates.add(cb.equal(category.get("user"), user));
+
+            Expression<LocalDateTime> date = root.get("transactionDate");
+            if (filter.getStartDate() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(date, filter.getStartDate().atStartOfDay()));
+            }
+            if (filter.getEndDate() != null) {
+                predicates.add(cb.lessThanOrEqualTo(date, filter.getEndDate().atTime(LocalTime.MAX)));
+            }
+            if (filter.getType() != null) {
+                predicates.add(cb.equal(cb.lower(root.get("type")), filter.getType().toLowerCase(Locale.ROOT)));
+            }
+            if (filter.getCategoryName() != null) {
+                predicates.add(cb.equal(cb.lower(category.get("name")), filter.getCategoryName().toLowerCase()));
+            }
+            if (filter.getWalletName() != null) {
+                predicates.add(cb.equal(cb.lower(wallet.get("walletName")), filter.getWalletName().toLowerCase()));
+            }
+
+            BigDecimal[] amountRange = parseAmountRange(filter.getAmountRange());
+            if (amountRange != null) {
+                Expression<BigDecimal> amount = cb.abs(root.get("amount"));
+                predicates.add(cb.greaterThanOrEqualTo(amount, amountRange[0]));
+                if (amountRange[1] != null) {
+                    predicates.add(cb.lessThanOrEqualTo(amount, amountRange[1]));
+                }
+            }
+
+            // Keyword search is accent-insensitive in both modes and served by the description indexes (V4)
+            Expression<Double> rank = null;
+            if (filter.getKeywords() != null) {
+                Expression<String> description = root.get("description");
+                if (isFullTextMode(filter)) {
+                    String tsQuery = toPrefixQuery(filter.getKeywords());
+                    if (tsQuery != null) {
+                        Expression<String> queryText = cb.literal(tsQuery);
+                        predicates.add(cb.isTrue(cb.function("description_matches", Boolean.class, description, queryText)));
+                        rank = cb.function("description_rank", Double.class, description, queryText);
+                    }
+                } else {
+                    String pattern = "%" + escapeLike(filter.getKeywords().toLowerCase()) + "%";
+                    predicates.add(cb.like(
+                            cb.function("unaccent_lower", String.class, description),
+                            cb.function("unaccent_lower", String.class, cb.literal(pattern)),
+                            '\\'));
+                }
+            }
+
+            LocalTime[] timeRange = parseTimeRange(filter.getTimeRange());
+            if (timeRange != null) {
+                Expression<LocalTime> time = root.get("transactionDate").as(LocalTime.class);
+                predicates.add(cb.between(time, timeRange[0], timeRange[1]));
+            }
+
+            DayOfWeek dayOfWeek = parseDayOfWeek(filter.getDayOfWeek());
+            if (dayOfWeek != null) {
+                // ISO day of week: Monday = 1 ... Sunday = 7, same numbering as java.time.DayOfWeek
+                Expression<Double> isoDow = cb.function("date_part", Double.class, cb.literal("isodow"), date);
+                predicates.add(cb.equal(isoDow, (double) dayOfWeek.getValue()));
+            }
+
+            // Newest first; full-text results are ordered by relevance before that
+            if (query != null && Long.class != query.getResultType() && long.class != query.getResultType()) {
+                List<Order> orders = new ArrayList<>();
+                if (rank != null) {
+                    orders.add(cb.desc(rank));
+                }
+                orders.add(cb.desc(date));
+                orders.add(cb.desc(root.get("transactionId")));
+                query.orderBy(orders);
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static boolean isFullTextMode(SearchTransactionsDTO filter) {
+        return FULL_TEXT_MODE.equalsIgnoreCase(filter.getSearchMode());
+    }
+
+    // Turns free text into "word1:* & word2:*" so every word matches as a prefix; null when nothing is left
+    private static String toPrefixQuery(String keywords) {
+        StringBuilder query = new StringBuilder();
+        for (String word : keywords.trim().split("\\s+")) {
+            StringBuilder token = new StringBuilder();
+            word.codePoints()
+                    .filter(Character::isLetterOrDigit)
+                    .forEach(token::appendCodePoint);
+            if (token.isEmpty()) {
+                continue;
+            }
+            if (!query.isEmpty()) {
+                query.append(" & ");
+            }
+            query.append(token).append(":*");
+        }
+        return query.isEmpty() ? null : query.toString();
+    }
+
+    // "min-max" or "min+"; returns {min, max} with max null for an open range
+    private static BigDecimal[] parseAmountRange(String amountRange) {
+        if (amountRange == null) {
+            return null;
+        }
+        try {
+            if (amountRange.endsWith("+")) {
+                return new BigDecimal[]{new BigDecimal(amountRange.replace("+", "").trim()), null};
+            } else if (amountRange.contains("-")) {
+                String[] parts = amountRange.split("-");
+                return new BigDecimal[]{new BigDecimal(parts[0].trim()), new BigDecimal(parts[1].trim())};
+            }
+        } catch (Exception e) {
+            // ignore malformed range
+        }
+        return null;
+    }
+
+    // "HH:mm-HH:mm"
+    private static LocalTime[] parseTimeRange(String timeRange) {
+        if (timeRange == null || !timeRange.contains("-")) {
+            return null;
+        }
+        try {
+            String[] times = timeRange.split("-");
+            return new LocalTime[]{LocalTime.parse(times[0]), LocalTime.parse(times[1])};
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static DayOfWeek parseDayOfWeek(String dayOfWeek) {
+        if (dayOfWeek == null) {
+            return null;
+        }
+        try {
+            return DayOfWeek.valueOf(dayOfWeek.toUpperCase());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
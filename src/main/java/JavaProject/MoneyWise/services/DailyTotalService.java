@@ -0,0 +1,13 @@
+package JavaProject.MoneyWise.services;
+
+import JavaProject.MoneyWise.models.dtos.statistic.DailyTotalDeltaDTO;
+import JavaProject.MoneyWise.models.entities.Transaction;
+
+import java.util.Collection;
+
+public interface DailyTotalService {
+    void recordTransaction(Transaction transaction);
+    void reverseTransaction(Transaction transaction);
+    void recordTotals(Collection<DailyTotalDeltaDTO> deltas);
+    int rebuildDailyTotals();
+}
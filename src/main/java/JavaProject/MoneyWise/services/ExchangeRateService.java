@@ -0,0 +1,11 @@
+package JavaProject.MoneyWise.services;
+
+import JavaProject.MoneyWise.helper.CurrencyRateTable;
+
+import java.math.BigDecimal;
+
+public interface ExchangeRateService {
+    CurrencyRateTable getRateTable();
+    BigDecimal getUsdToVndRate();
+    void refresh();
+}
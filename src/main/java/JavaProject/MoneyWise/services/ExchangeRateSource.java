@@ -0,0 +1,10 @@
+package JavaProject.MoneyWise.services;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+// Where exchange rates come from; selected with exchange-rate.source (http or stub)
+public interface ExchangeRateSource {
+    // Units of each currency (upper-case ISO code) for one US dollar
+    Map<String, BigDecimal> fetchUsdRates();
+}
@@ -1,5 +1,6 @@
     package JavaProject.MoneyWise.services;
 
+    import io.jsonwebtoken.Claims;
     import org.springframework.security.core.userdetails.UserDetails;
 
     public interface JwtService {
@@ -8,4 +9,5 @@
         String extractJwtId(String token);
         boolean isTokenValid(String token, UserDetails userDetails);
         String validateExpiredToken(String token);
+        Claims parseClaims(String token);
     }
\ No newline at end of file
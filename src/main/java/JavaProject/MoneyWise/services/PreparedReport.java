@@ -0,0 +1,10 @@
+package JavaProject.MoneyWise.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+// A report whose data is resolved (filled, or found in the report cache) and only needs writing out
+@FunctionalInterface
+public interface PreparedReport {
+    void writeTo(OutputStream out) throws IOException;
+}
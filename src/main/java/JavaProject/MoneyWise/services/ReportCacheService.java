@@ -0,0 +1,10 @@
+package JavaProject.MoneyWise.services;
+
+import JavaProject.MoneyWise.models.dtos.report.ReportInfoDTO;
+
+public interface ReportCacheService {
+    String cacheKey(ReportInfoDTO reportInfo, String currency, String languageCode);
+    byte[] get(String key);
+    void put(String key, byte[] content);
+    int getMaxEntryBytes();
+}
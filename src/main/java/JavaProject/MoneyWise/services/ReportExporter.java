@@ -0,0 +1,14 @@
+package JavaProject.MoneyWise.services;
+
+import JavaProject.MoneyWise.models.dtos.report.ReportTable;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+// Writes tabular report data in one output format, row by row, without going through Jasper
+public interface ReportExporter {
+    MediaType getMediaType();
+    String getFileExtension();
+    void export(ReportTable table, OutputStream out) throws IOException;
+}
@@ -0,0 +1,14 @@
+package JavaProject.MoneyWise.services;
+
+import JavaProject.MoneyWise.models.dtos.report.ReportInfoDTO;
+import JavaProject.MoneyWise.models.dtos.report.ReportJobDTO;
+import org.springframework.core.io.Resource;
+
+import java.util.UUID;
+
+public interface ReportJobService {
+    ReportJobDTO submit(ReportInfoDTO reportInfo, String acceptLanguage);
+    ReportJobDTO getJob(UUID jobId);
+    Resource getResult(UUID jobId);
+    void cleanupExpiredJobs();
+}
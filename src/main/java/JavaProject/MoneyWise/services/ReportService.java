@@ -0,0 +1,14 @@
+package JavaProject.MoneyWise.services;
+
+import JavaProject.MoneyWise.models.dtos.report.ReportInfoDTO;
+import net.sf.jasperreports.engine.JRException;
+
+import java.util.Optional;
+
+public interface ReportService {
+    void validate(ReportInfoDTO reportInfo);
+    PreparedReport prepareReport(ReportInfoDTO reportInfo, String acceptLanguage) throws JRException;
+    PreparedReport prepareExport(ReportInfoDTO reportInfo, String acceptLanguage, ReportExporter exporter);
+    Optional<ReportExporter> findExporter(String accept, String format);
+    String getFileName(ReportInfoDTO reportInfo, String acceptLanguage, String extension);
+}
@@ -9,12 +9,12 @@ import java.time.YearMonth;
 import java.util.List;
 
 public interface StatisticService {
-    List<CategoryBreakdownDTO> getCategoryBreakdown(LocalDate startDate, LocalDate endDate);
+    List<CategoryBreakdownDTO> getCategoryBreakdown(LocalDate startDate, LocalDate endDate, String type);
     DailySummaryDTO getDailySummary(LocalDate date);
     WeeklySummaryDTO getWeeklySummary(LocalDate weekStartDate);
     MonthlySummaryDTO getMonthlySummary(YearMonth yearMonth);
     YearlySummaryDTO getYearlySummary(int year);
     CashFlowSummaryDTO getCashFlowSummary(LocalDate startDate, LocalDate endDate);
     Object generateReportData(ReportInfoDTO reportInfo, String acceptLanguage);
-    List<WalletBreakdownDTO> getWalletBreakdown(LocalDate startDate, LocalDate endDate);
+    List<WalletBreakdownDTO> getWalletBreakdown(LocalDate startDate, LocalDate endDate, String type);
 }
@@ -0,0 +1,12 @@
+package JavaProject.MoneyWise.services;
+
+import JavaProject.MoneyWise.models.dtos.transaction.TransactionImportResultDTO;
+import org.springframework.core.io.InputStreamSource;
+
+import java.io.IOException;
+import java.util.UUID;
+
+public interface TransactionImportService {
+    TransactionImportResultDTO importTransactions(InputStreamSource source, String format, UUID walletId, UUID categoryId,
+                                                  String decimalSeparator) throws IOException;
+}
@@ -0,0 +1,8 @@
+package JavaProject.MoneyWise.services;
+
+import java.time.YearMonth;
+
+public interface TransactionPartitionService {
+    void ensureUpcomingPartitions();
+    String ensurePartition(YearMonth month);
+}
@@ -1,15 +1,22 @@
 package JavaProject.MoneyWise.services;
 
 import JavaProject.MoneyWise.models.dtos.transaction.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.UUID;
 
 public interface TransactionService {
     List<TransactionDTO> getAllTransactions();
     List<TransactionDTO> getTransactionsByWalletId(UUID walletId);
+    TransactionPageDTO getTransactionsPage(String cursor, int limit);
+    TransactionPageDTO getTransactionsPageByWalletId(UUID walletId, String cursor, int limit);
     TransactionDTO getTransactionById(UUID transactionId);
     TransactionDTO createTransaction(CreateTransactionDTO model);
     TransactionDTO updateTransaction(UpdateTransactionDTO model);
     UUID deleteTransactionById(UUID transactionId);
-    List<TransactionDetailDTO> searchTransactions(SearchTransactionsDTO filter);
+    TransactionSearchResultDTO searchTransactions(SearchTransactionsDTO filter);
+    ReportExporter getExporter(String format);
+    void exportTransactions(ReportExporter exporter, OutputStream out) throws IOException;
 }
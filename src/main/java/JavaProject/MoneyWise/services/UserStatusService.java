@@ -0,0 +1,7 @@
+package JavaProject.MoneyWise.services;
+
+import java.util.UUID;
+
+public interface UserStatusService {
+    boolean isEnabled(UUID userId);
+}
@@ -229,7 +229,8 @@ public class BudgetServiceImpl implements BudgetService {
         if( currency == null || currency.isEmpty()) {
             currency = "VND"; // Default to VND if no currency is provided
         }
-        BigDecimal exchangeRateUSDtoVND = currencyConverter.fetchExchangeRate();
+        // The rate is only needed to display USD amounts
+        BigDecimal exchangeRateUSDtoVND = "USD".equalsIgnoreCase(currency) ? currencyConverter.fetchExchangeRate() : null;
 
         User currentUser = HelperFunctions.getCurrentUser(userRepository);
         LocalDateTime currentDateTime = LocalDateTime.now();
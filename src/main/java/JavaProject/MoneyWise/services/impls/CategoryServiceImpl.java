@@ -86,6 +86,8 @@ public class CategoryServiceImpl implements CategoryService {
         category.setUser(HelperFunctions.getCurrentUser(userRepository));
         category.setName(model.getName());
         categoryRepository.save(category);
+        // Its name appears in cached reports
+        userRepository.incrementDataVersion(category.getUser().getId());
         return applicationMapper.toCategoryDTO(category);
     }
 
@@ -95,6 +97,7 @@ public class CategoryServiceImpl implements CategoryService {
         Category category = categoryRepository.findByCategoryIdAndUser(categoryId, currentUser)
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
         categoryRepository.delete(category);
+        userRepository.incrementDataVersion(currentUser.getId());
         return categoryId;
     }
 
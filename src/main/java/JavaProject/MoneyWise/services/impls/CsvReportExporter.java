@@ -0,0 +1,81 @@
+package JavaProject.MoneyWise.services.impls;
+
+import JavaProject.MoneyWise.models.dtos.report.ReportTable;
+import JavaProject.MoneyWise.services.ReportExporter;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+
+// RFC 4180 CSV, UTF-8 with a BOM so spreadsheet tools pick the right encoding for Vietnamese names.
+// Text that a spreadsheet would read as a formula (user-entered descriptions, names) is prefixed with '.
+@Component
+public class CsvReportExporter implements ReportExporter {
+
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    @Override
+    public MediaType getMediaType() {
+        return TEXT_CSV;
+    }
+
+    @Override
+    public String getFileExtension() {
+        return "csv";
+    }
+
+    @Override
+    public void export(ReportTable table, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write('\uFEFF');
+        writeRow(writer, table.getColumns());
+        Iterator<List<Object>> rows = table.getRows().iterator();
+        while (rows.hasNext()) {
+            writeRow(writer, rows.next());
+        }
+        writer.flush();
+    }
+
+    private void writeRow(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    private String escape(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text;
+        if (value instanceof BigDecimal number) {
+            text = number.toPlainString();
+        } else if (value instanceof Number) {
+            text = value.toString();
+        } else {
+            text = neutralizeFormula(value.toString());
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private String neutralizeFormula(String text) {
+        if (text.isEmpty()) {
+            return text;
+        }
+        char first = text.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            return "'" + text;
+        }
+        return text;
+    }
+}
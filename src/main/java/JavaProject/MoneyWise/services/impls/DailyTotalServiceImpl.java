@@ -0,0 +1,94 @@
+package JavaProject.MoneyWise.services.impls;
+
+import JavaProject.MoneyWise.models.dtos.statistic.DailyTotalDeltaDTO;
+import JavaProject.MoneyWise.models.entities.Transaction;
+import JavaProject.MoneyWise.repositories.DailyWalletCategoryTotalRepository;
+import JavaProject.MoneyWise.services.DailyTotalService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyTotalServiceImpl implements DailyTotalService {
+
+    // Same upsert as DailyWalletCategoryTotalRepository.applyDelta, for JDBC batching
+    private static final String APPLY_DELTA_SQL = "INSERT INTO daily_wallet_category_totals " +
+            "(total_id, wallet_id, category_id, day, type, total_amount, transaction_count) " +
+            "VALUES (gen_random_uuid(), ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (wallet_id, category_id, day, type) DO UPDATE SET " +
+            "total_amount = daily_wallet_category_totals.total_amount + EXCLUDED.total_amount, " +
+            "transaction_count = daily_wallet_category_totals.transaction_count + EXCLUDED.transaction_count";
+
+    private final DailyWalletCategoryTotalRepository dailyTotalRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void recordTransaction(Transaction transaction) {
+        if (transaction.getType() == null) {
+            return;
+        }
+        dailyTotalRepository.applyDelta(
+                transaction.getWallet().getWalletId(),
+                transaction.getCategory().getCategoryId(),
+                transaction.getTransactionDate().toLocalDate(),
+                transaction.getType().toLowerCase(Locale.ROOT),
+                transaction.getAmount(),
+                1);
+    }
+
+    @Override
+    @Transactional
+    public void reverseTransaction(Transaction transaction) {
+        if (transaction.getType() == null) {
+            return;
+        }
+        LocalDate day = transaction.getTransactionDate().toLocalDate();
+        String type = transaction.getType().toLowerCase(Locale.ROOT);
+        dailyTotalRepository.applyDelta(
+                transaction.getWallet().getWalletId(),
+                transaction.getCategory().getCategoryId(),
+                day,
+                type,
+                transaction.getAmount().negate(),
+                -1);
+        dailyTotalRepository.deleteIfEmpty(
+                transaction.getWallet().getWalletId(),
+                transaction.getCategory().getCategoryId(),
+                day,
+                type);
+    }
+
+    // One batched upsert per bucket, e.g. for a bulk import
+    @Override
+    @Transactional
+    public void recordTotals(Collection<DailyTotalDeltaDTO> deltas) {
+        List<Object[]> rows = deltas.stream()
+                .map(delta -> new Object[]{delta.getWalletId(), delta.getCategoryId(), Date.valueOf(delta.getDay()),
+                        delta.getType(), delta.getAmount(), delta.getCount()})
+                .toList();
+        jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, rows);
+    }
+
+    @Override
+    @Transactional
+    public int rebuildDailyTotals() {
+        // Concurrent applyDelta upserts wait until the rebuild commits; otherwise a transaction committed between
+        // the delete and the re-insert would be lost or counted twice
+        jdbcTemplate.execute("LOCK TABLE daily_wallet_category_totals IN EXCLUSIVE MODE");
+        dailyTotalRepository.deleteAllTotals();
+        int buckets = dailyTotalRepository.rebuildFromTransactions();
+        log.info("Rebuilt daily wallet/category totals: {} buckets", buckets);
+        return buckets;
+    }
+}
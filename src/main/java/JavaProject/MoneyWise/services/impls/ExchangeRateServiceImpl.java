@@ -0,0 +1,229 @@
+package JavaProject.MoneyWise.services.impls;
+
+import JavaProject.MoneyWise.helper.CurrencyRateTable;
+import JavaProject.MoneyWise.helper.SampledLogFilter;
+import JavaProject.MoneyWise.models.entities.ExchangeRate;
+import JavaProject.MoneyWise.repositories.ExchangeRateRepository;
+import JavaProject.MoneyWise.services.ExchangeRateService;
+import JavaProject.MoneyWise.services.ExchangeRateSource;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+// In-memory rate table (every currency against USD), refreshed on a schedule and persisted to exchange_rates.
+// Reads never wait on the network once any table exists: an older-than-refresh-interval table is served while a
+// single background refresh runs (stale-while-revalidate). Past exchange-rate.max-age the rates are no longer used:
+// a newer persisted table (written by another instance) is taken if there is one, otherwise conversions fail.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExchangeRateServiceImpl implements ExchangeRateService {
+
+    private final ExchangeRateSource exchangeRateSource;
+    private final ExchangeRateRepository exchangeRateRepository;
+
+    @Value("${exchange-rate.refresh-interval:PT1H}")
+    private Duration refreshInterval;
+
+    @Value("${exchange-rate.max-age:P1D}")
+    private Duration maxAge;
+
+    // How long a request waits for the very first rates when nothing is cached or persisted
+    @Value("${exchange-rate.cold-start-timeout:PT10S}")
+    private Duration coldStartTimeout;
+
+    // Blocking HTTP fetch and DB write stay off the common ForkJoinPool
+    private final ExecutorService refreshExecutor =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("exchange-rate-refresh-"));
+
+    private volatile CurrencyRateTable rateTable;
+    // The single refresh in flight (background, scheduled or cold start), null when idle
+    private final AtomicReference<CompletableFuture<Void>> inFlightRefresh = new AtomicReference<>();
+
+    @Override
+    public CurrencyRateTable getRateTable() {
+        CurrencyRateTable current = rateTable != null ? rateTable : loadPersisted();
+        if (current == null) {
+            return coldStart();
+        }
+
+        // Never fetch inline once a table exists: during a source outage requests keep the last rates
+        LocalDateTime now = LocalDateTime.now();
+        if (current.getFetchedAt().plus(refreshInterval).isBefore(now)) {
+            refreshInBackground();
+        }
+        if (current.getFetchedAt().plus(maxAge).isBefore(now)) {
+            return requireFresh(current, now);
+        }
+        return current;
+    }
+
+    // Past max-age: another instance may have persisted newer rates; otherwise refuse to convert with these
+    private CurrencyRateTable requireFresh(CurrencyRateTable current, LocalDateTime now) {
+        CurrencyRateTable persisted = readPersisted();
+        if (persisted != null && persisted.getFetchedAt().isAfter(current.getFetchedAt())) {
+            rateTable = persisted;
+            current = persisted;
+        }
+        if (current.getFetchedAt().plus(maxAge).isBefore(now)) {
+            log.warn(SampledLogFilter.SAMPLED, "Exchange rates fetched at {} are older than {}", current.getFetchedAt(), maxAge);
+            throw new IllegalStateException("Exchange rates are out of date");
+        }
+        return current;
+    }
+
+    @Override
+    public BigDecimal getUsdToVndRate() {
+        return getRateTable().rate("VND");
+    }
+
+    // Joins the running refresh instead of starting a second fetch
+    @Override
+    public void refresh() {
+        refreshInBackground();
+        CompletableFuture<Void> running = inFlightRefresh.get();
+        if (running != null) {
+            running.join();
+        }
+    }
+
+    private void fetchRates() {
+        Map<String, BigDecimal> rates = exchangeRateSource.fetchUsdRates();
+        LocalDateTime fetchedAt = LocalDateTime.now();
+        rateTable = CurrencyRateTable.of(rates, fetchedAt);
+        persist(rates, fetchedAt);
+    }
+
+    @Scheduled(fixedDelayString = "${exchange-rate.refresh-interval:PT1H}", initialDelayString = "${exchange-rate.refresh-interval:PT1H}")
+    public void scheduledRefresh() {
+        refreshInBackground();
+    }
+
+    // Serve the last persisted rates right after startup and bring them up to date in the background
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        CurrencyRateTable persisted = loadPersisted();
+        if (persisted == null || persisted.getFetchedAt().plus(refreshInterval).isBefore(LocalDateTime.now())) {
+            refreshInBackground();
+        }
+    }
+
+    // Starts a refresh unless one is already running
+    private void refreshInBackground() {
+        CompletableFuture<Void> created = new CompletableFuture<>();
+        if (!inFlightRefresh.compareAndSet(null, created)) {
+            return;
+        }
+        CompletableFuture.runAsync(() -> {
+            try {
+                fetchRates();
+                inFlightRefresh.set(null);
+                created.complete(null);
+            } catch (Exception e) {
+                log.warn("Background exchange rate refresh failed: {}", e.getMessage());
+                inFlightRefresh.set(null);
+                created.completeExceptionally(e);
+            }
+        }, refreshExecutor);
+    }
+
+    // No table at all: concurrent callers share one fetch and wait for it, bounded by the cold-start timeout
+    private CurrencyRateTable coldStart() {
+        refreshInBackground();
+        CompletableFuture<Void> running = inFlightRefresh.get();
+        if (running != null) {
+            try {
+                running.get(coldStartTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | TimeoutException e) {
+                log.warn("Exchange rates unavailable on cold start: {}", e.getMessage());
+            }
+        }
+        return requireRateTable();
+    }
+
+    private CurrencyRateTable loadPersisted() {
+        CurrencyRateTable loaded = readPersisted();
+        if (loaded != null) {
+            rateTable = loaded;
+        }
+        return loaded;
+    }
+
+    private CurrencyRateTable readPersisted() {
+        try {
+            List<ExchangeRate> stored = exchangeRateRepository.findAllByBaseCurrency(CurrencyRateTable.PIVOT_CURRENCY);
+            if (stored.isEmpty()) {
+                return null;
+            }
+            Map<String, BigDecimal> rates = new HashMap<>();
+            LocalDateTime fetchedAt = null;
+            for (ExchangeRate rate : stored) {
+                rates.put(rate.getQuoteCurrency(), rate.getRate());
+                if (fetchedAt == null || rate.getFetchedAt().isBefore(fetchedAt)) {
+                    fetchedAt = rate.getFetchedAt();
+                }
+            }
+            return CurrencyRateTable.of(rates, fetchedAt);
+        } catch (Exception e) {
+            log.warn("Unable to load persisted exchange rates: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void persist(Map<String, BigDecimal> rates, LocalDateTime fetchedAt) {
+        try {
+            Map<String, ExchangeRate> existing = new HashMap<>();
+            for (ExchangeRate rate : exchangeRateRepository.findAllByBaseCurrency(CurrencyRateTable.PIVOT_CURRENCY)) {
+                existing.put(rate.getQuoteCurrency(), rate);
+            }
+
+            List<ExchangeRate> toSave = new ArrayList<>();
+            rates.forEach((code, value) -> {
+                if (CurrencyRateTable.indexOf(code) < 0 || value == null || value.signum() <= 0) {
+                    return;
+                }
+                ExchangeRate stored = existing.get(code);
+                if (stored == null) {
+                    stored = new ExchangeRate();
+                    stored.setBaseCurrency(CurrencyRateTable.PIVOT_CURRENCY);
+                    stored.setQuoteCurrency(code);
+                }
+                stored.setRate(value);
+                stored.setFetchedAt(fetchedAt);
+                toSave.add(stored);
+            });
+            exchangeRateRepository.saveAll(toSave);
+        } catch (Exception e) {
+            // The in-memory table is still good; only the restart fallback is out of date
+            log.warn("Unable to persist exchange rates: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private CurrencyRateTable requireRateTable() {
+        CurrencyRateTable current = rateTable;
+        if (current == null) {
+            throw new IllegalStateException("Exchange rates not available");
+        }
+        return current;
+    }
+}
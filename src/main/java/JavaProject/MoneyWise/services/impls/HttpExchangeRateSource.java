@@ -0,0 +1,85 @@
+package JavaProject.MoneyWise.services.impls;
+
+import JavaProject.MoneyWise.services.ExchangeRateSource;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// Rates from the public currency API on jsdelivr, with the pages.dev mirror as fallback
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "exchange-rate.source", havingValue = "http", matchIfMissing = true)
+public class HttpExchangeRateSource implements ExchangeRateSource {
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+
+    // Own client with timeouts so a hung API can't hold the single refresh forever
+    public HttpExchangeRateSource(ObjectMapper objectMapper,
+                                  @Value("${exchange-rate.http-timeout:PT5S}") Duration timeout) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeout);
+        requestFactory.setReadTimeout(timeout);
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.objectMapper = objectMapper;
+    }
+
+    // Primary exchange rate API
+    private static final String PRIMARY_CURRENCY_API = "https://cdn.jsdelivr.net/npm/@fawazahmed0/currency-api@latest/v1/currencies/usd.json";
+
+    // Fallback API if primary fails
+    private static final String FALLBACK_CURRENCY_API = "https://latest.currency-api.pages.dev/v1/currencies/usd.json";
+
+    @Override
+    public Map<String, BigDecimal> fetchUsdRates() {
+        try {
+            String response = restTemplate.getForObject(new URI(PRIMARY_CURRENCY_API), String.class);
+            Map<String, BigDecimal> rates = parseExchangeRates(response);
+            log.info("Fetched {} exchange rates from primary API", rates.size());
+            return rates;
+        } catch (Exception e) {
+            log.warn("Primary currency API failed: {}", e.getMessage());
+            try {
+                String response = restTemplate.getForObject(new URI(FALLBACK_CURRENCY_API), String.class);
+                Map<String, BigDecimal> rates = parseExchangeRates(response);
+                log.info("Fetched {} exchange rates from fallback API", rates.size());
+                return rates;
+            } catch (Exception ex) {
+                log.error("Fallback currency API failed: {}", ex.getMessage());
+                throw new RuntimeException("Unable to fetch exchange rate", ex);
+            }
+        }
+    }
+
+    // Parse the whole {"usd": {"vnd": 25000.0, "eur": 0.92, ...}} table from the API response
+    private Map<String, BigDecimal> parseExchangeRates(String response) {
+        try {
+            JsonNode ratesNode = objectMapper.readTree(response).path("usd");
+            if (!ratesNode.isObject() || ratesNode.path("vnd").isMissingNode()) {
+                throw new RuntimeException("VND rate not found in response");
+            }
+            Map<String, BigDecimal> rates = new HashMap<>();
+            ratesNode.fields().forEachRemaining(entry -> {
+                if (entry.getValue().isNumber()) {
+                    rates.put(entry.getKey().toUpperCase(Locale.ROOT), entry.getValue().decimalValue());
+                }
+            });
+            return rates;
+        } catch (Exception e) {
+            log.error("Parse error: {}", e.getMessage());
+            throw new RuntimeException("Unable to parse exchange rate", e);
+        }
+    }
+}
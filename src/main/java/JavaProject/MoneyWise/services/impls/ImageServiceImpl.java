@@ -3,6 +3,7 @@ package JavaProject.MoneyWise.services.impls;
 import JavaProject.MoneyWise.services.ImageService;
 import com.cloudinary.Cloudinary;
 import com.cloudinary.utils.ObjectUtils;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -13,6 +14,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
+@Slf4j
 @Service
 public class ImageServiceImpl implements ImageService {
     private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10 MB
@@ -36,10 +38,7 @@ public class ImageServiceImpl implements ImageService {
         String originalFilename = file.getOriginalFilename();
         
         // Debug logging to understand what Android is sending
-        System.out.println("=== Image Upload Debug ===");
-        System.out.println("Content-Type: " + contentType);
-        System.out.println("Original filename: " + originalFilename);
-        System.out.println("File size: " + file.getSize());
+        log.debug("Image upload: contentType='{}', filename='{}', size={}", contentType, originalFilename, file.getSize());
           // Enhanced validation that works with Android
         if (!isValidImageType(contentType, originalFilename, file.getBytes())) {
             throw new IllegalArgumentException(
@@ -85,14 +84,8 @@ public class ImageServiceImpl implements ImageService {
 
     // Enhanced validation methods for Android compatibility
     private boolean isValidImageType(String contentType, String filename, byte[] fileBytes) {
-        System.out.println("=== Validation Debug ===");
-        System.out.println("Content-Type: '" + contentType + "'");
-        System.out.println("Filename: '" + filename + "'");
-        System.out.println("File bytes length: " + (fileBytes != null ? fileBytes.length : "null"));
-        if (fileBytes != null && fileBytes.length >= 4) {
-            System.out.printf("First 4 bytes: %02X %02X %02X %02X%n", 
-                fileBytes[0] & 0xFF, fileBytes[1] & 0xFF, fileBytes[2] & 0xFF, fileBytes[3] & 0xFF);
-        }
+        log.debug("Validating image: contentType='{}', filename='{}', bytes={}",
+                contentType, filename, fileBytes != null ? fileBytes.length : "null");
         
         // Method 1: Check by Content-Type (primary method)
         if (contentType != null) {
@@ -100,7 +93,7 @@ public class ImageServiceImpl implements ImageService {
             if (ALLOWED_TYPES.contains(normalizedContentType) || 
                 normalizedContentType.equals("image/jpg") || // Android sometimes sends image/jpg
                 normalizedContentType.equals("image/*")) { // Android sometimes sends generic image/*
-                System.out.println("Content-Type validation: PASSED");
+                log.debug("Content-Type validation: PASSED");
                 return true;
             }
         }
@@ -130,18 +123,19 @@ public class ImageServiceImpl implements ImageService {
                filename.substring(lastDotIndex + 1) : "";
     }    private boolean isValidImageBySignature(byte[] fileBytes) {
         if (fileBytes == null || fileBytes.length < 4) {
-            System.out.println("File signature validation: FAILED - insufficient bytes");
+            log.debug("File signature validation: FAILED - insufficient bytes");
             return false;
         }
         
-        System.out.println("=== File Signature Check ===");
-        System.out.printf("Checking signature with bytes: %02X %02X %02X %02X...%n", 
-            fileBytes[0] & 0xFF, fileBytes[1] & 0xFF, fileBytes[2] & 0xFF, fileBytes[3] & 0xFF);
+        if (log.isDebugEnabled()) {
+            log.debug("Checking signature with bytes: {}", String.format("%02X %02X %02X %02X",
+                fileBytes[0] & 0xFF, fileBytes[1] & 0xFF, fileBytes[2] & 0xFF, fileBytes[3] & 0xFF));
+        }
         
         // Check JPEG signature (FF D8)
         if (fileBytes.length >= 2 && 
             (fileBytes[0] & 0xFF) == 0xFF && (fileBytes[1] & 0xFF) == 0xD8) {
-            System.out.println("File signature validation: PASSED - JPEG detected");
+            log.debug("File signature validation: PASSED - JPEG detected");
             return true; // JPEG
         }
         
@@ -149,18 +143,18 @@ public class ImageServiceImpl implements ImageService {
         if (fileBytes.length >= 8 && 
             (fileBytes[0] & 0xFF) == 0x89 && fileBytes[1] == 0x50 && 
             fileBytes[2] == 0x4E && fileBytes[3] == 0x47) {
-            System.out.println("File signature validation: PASSED - PNG detected");
+            log.debug("File signature validation: PASSED - PNG detected");
             return true; // PNG
         }
         
         // Check GIF signature (47 49 46)
         if (fileBytes.length >= 6 && 
             fileBytes[0] == 0x47 && fileBytes[1] == 0x49 && fileBytes[2] == 0x46) {
-            System.out.println("File signature validation: PASSED - GIF detected");
+            log.debug("File signature validation: PASSED - GIF detected");
             return true; // GIF
         }
         
-        System.out.println("File signature validation: FAILED - no valid image signature found");
+        log.debug("File signature validation: FAILED - no valid image signature found");
         return false;
     }
 }
\ No newline at end of file
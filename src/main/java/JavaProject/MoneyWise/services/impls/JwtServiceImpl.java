@@ -1,19 +1,22 @@
 package JavaProject.MoneyWise.services.impls;
 
+import JavaProject.MoneyWise.models.entities.CustomUserDetails;
 import JavaProject.MoneyWise.services.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
-import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
+import javax.crypto.SecretKey;
+import java.util.*;
 
 @Slf4j
 @Service
@@ -25,10 +28,21 @@ public class JwtServiceImpl implements JwtService {
     @Value("${jwt.expiration}")
     private long accessTokenExpiration;
 
+    // Key and parser are immutable and thread-safe, so they are built once; verifying an HS512 signature
+    // costs about as much as hashing the token, so verified tokens are not cached
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
     @Override
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("roles", userDetails.getAuthorities());
+        claims.put("roles", userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+        // User id lets the authentication filter build the principal without a database lookup
+        if (userDetails instanceof CustomUserDetails customUserDetails) {
+            claims.put("uid", customUserDetails.getUser().getId().toString());
+        }
         String jti = UUID.randomUUID().toString();
         claims.put("jti", jti);
         return Jwts.builder()
@@ -36,41 +50,31 @@ public class JwtServiceImpl implements JwtService {
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + accessTokenExpiration))
-                .signWith(Keys.hmacShaKeyFor(accessTokenSecret.getBytes()), Jwts.SIG.HS512)
+                .signWith(signingKey, Jwts.SIG.HS512)
                 .compact();
     }
 
     @Override
     public String extractUsername(String token) {
-        log.info("Attempting to extract username from token: {}", token);
+        // Never log the token itself: it is a bearer credential
         if (token == null || token.isEmpty() || !isValidJwtFormat(token)) {
-            log.error("Invalid JWT format: {}", token);
-            throw new MalformedJwtException("Invalid JWT token: " + token);
+            log.debug("Invalid JWT format");
+            throw new MalformedJwtException("Invalid JWT token");
         }
         try {
-            return Jwts.parser()
-                    .verifyWith(Keys.hmacShaKeyFor(accessTokenSecret.getBytes()))
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload()
-                    .getSubject();
+            return parseClaims(token).getSubject();
         } catch (Exception e) {
-            log.error("Failed to parse token: {}", e.getMessage());
-            throw new MalformedJwtException("Unable to parse JWT token: " + token, e);
+            log.debug("Failed to parse token: {}", e.getMessage());
+            throw new MalformedJwtException("Unable to parse JWT token", e);
         }
     }
 
     @Override
     public String extractJwtId(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(Keys.hmacShaKeyFor(accessTokenSecret.getBytes()))
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload()
-                    .get("jti", String.class);
+            return parseClaims(token).get("jti", String.class);
         } catch (Exception e) {
-            log.error("Failed to extract jti: {}", e.getMessage());
+            log.debug("Failed to extract jti: {}", e.getMessage());
             return null;
         }
     }
@@ -78,16 +82,12 @@ public class JwtServiceImpl implements JwtService {
     @Override
     public boolean isTokenValid(String token, UserDetails userDetails) {
         try {
-            String username = extractUsername(token);
-            Date expiration = Jwts.parser()
-                    .verifyWith(Keys.hmacShaKeyFor(accessTokenSecret.getBytes()))
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload()
-                    .getExpiration();
-            return (username.equals(userDetails.getUsername()) && !expiration.before(new Date()));
+            // parseClaims already rejects expired tokens; subject and expiry come from one parse
+            Claims claims = parseClaims(token);
+            return claims.getSubject().equals(userDetails.getUsername())
+                    && !claims.getExpiration().before(new Date());
         } catch (Exception e) {
-            log.error("Token validation failed: {}", e.getMessage());
+            log.debug("Token validation failed: {}", e.getMessage());
             return false;
         }
     }
@@ -95,20 +95,27 @@ public class JwtServiceImpl implements JwtService {
     @Override
     public String validateExpiredToken(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(Keys.hmacShaKeyFor(accessTokenSecret.getBytes()))
-                    .build()
-                    .parseSignedClaims(token)
+            return jwtParser.parseSignedClaims(token)
                     .getPayload()
                     .getSubject();
-        } catch (io.jsonwebtoken.ExpiredJwtException e) {
+        } catch (ExpiredJwtException e) {
             return e.getClaims().getSubject(); // Return username even if expired
         } catch (Exception e) {
-            log.error("Failed to validate expired token: {}", e.getMessage());
+            log.debug("Failed to validate expired token: {}", e.getMessage());
             return null;
         }
     }
 
+    @Override
+    public Claims parseClaims(String token) {
+        if (token == null || token.isEmpty() || !isValidJwtFormat(token)) {
+            throw new MalformedJwtException("Invalid JWT token");
+        }
+
+        // Verifies the signature and the expiration
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
     private boolean isValidJwtFormat(String token) {
         int periodCount = token.length() - token.replace(".", "").length();
         return periodCount == 2;
@@ -116,7 +123,10 @@ public class JwtServiceImpl implements JwtService {
 
     @PostConstruct
     public void init() {
-        log.info("Access Token Secret: {}", accessTokenSecret);
+        signingKey = Keys.hmacShaKeyFor(accessTokenSecret.getBytes());
+        jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
         log.info("Access Token Expiration: {} ms", accessTokenExpiration);
     }
-}
\ No newline at end of file
+}
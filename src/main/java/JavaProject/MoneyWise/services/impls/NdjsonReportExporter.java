@@ -0,0 +1,52 @@
+package JavaProject.MoneyWise.services.impls;
+
+import JavaProject.MoneyWise.models.dtos.report.ReportTable;
+import JavaProject.MoneyWise.services.ReportExporter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+
+// Newline-delimited JSON: one self-contained object per line, so consumers can process rows as they arrive
+@Component
+@RequiredArgsConstructor
+public class NdjsonReportExporter implements ReportExporter {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public MediaType getMediaType() {
+        return MediaType.APPLICATION_NDJSON;
+    }
+
+    @Override
+    public String getFileExtension() {
+        return "ndjson";
+    }
+
+    @Override
+    public void export(ReportTable table, OutputStream out) throws IOException {
+        List<String> columns = table.getColumns();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            Iterator<List<Object>> rows = table.getRows().iterator();
+            while (rows.hasNext()) {
+                List<Object> values = rows.next();
+                generator.writeStartObject();
+                for (int i = 0; i < columns.size(); i++) {
+                    generator.writeFieldName(columns.get(i));
+                    generator.writeObject(values.get(i));
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+        }
+    }
+}
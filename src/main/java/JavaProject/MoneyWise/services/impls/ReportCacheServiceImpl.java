@@ -0,0 +1,103 @@
+package JavaProject.MoneyWise.services.impls;
+
+import JavaProject.MoneyWise.helper.HelperFunctions;
+import JavaProject.MoneyWise.models.dtos.report.ReportInfoDTO;
+import JavaProject.MoneyWise.repositories.UserRepository;
+import JavaProject.MoneyWise.services.ExchangeRateService;
+import JavaProject.MoneyWise.services.ReportCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+// In-memory LRU of rendered reports bounded by total bytes. Keys carry the user's data version
+// (users.data_version, bumped on every transaction write), so a changed ledger never hits an old entry;
+// superseded entries simply age out of the LRU. Converted (non-VND) reports also key on the rate table's
+// fetch time, so a rate refresh doesn't keep serving amounts converted at the old rates.
+@Service
+@RequiredArgsConstructor
+public class ReportCacheServiceImpl implements ReportCacheService {
+
+    private final UserRepository userRepository;
+    private final ExchangeRateService exchangeRateService;
+
+    @Value("${reports.cache.max-size:64MB}")
+    private DataSize maxSize;
+
+    @Value("${reports.cache.max-entry-size:8MB}")
+    private DataSize maxEntrySize;
+
+    // Bounds how stale the "printed on" date of a cached report can get
+    @Value("${reports.cache.ttl:PT12H}")
+    private Duration ttl;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    @Override
+    public String cacheKey(ReportInfoDTO reportInfo, String currency, String languageCode) {
+        UUID userId = HelperFunctions.getCurrentUser(userRepository).getId();
+        long dataVersion = userRepository.findDataVersionById(userId).orElse(0L);
+        return userId + "|" + dataVersion + "|" + reportInfo.getType().toLowerCase()
+                + "|" + reportInfo.getStartDate() + "|" + reportInfo.getEndDate()
+                + "|" + currency + rateVersion(currency) + "|" + languageCode;
+    }
+
+    private String rateVersion(String currency) {
+        if ("VND".equalsIgnoreCase(currency)) {
+            return "";
+        }
+        return "@" + exchangeRateService.getRateTable().getFetchedAt();
+    }
+
+    @Override
+    public synchronized byte[] get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt().isBefore(Instant.now())) {
+            remove(key);
+            return null;
+        }
+        return entry.content();
+    }
+
+    @Override
+    public synchronized void put(String key, byte[] content) {
+        if (content.length > getMaxEntryBytes()) {
+            return;
+        }
+        remove(key);
+        entries.put(key, new Entry(content, Instant.now().plus(ttl)));
+        totalBytes += content.length;
+
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (totalBytes > maxSize.toBytes() && eldest.hasNext()) {
+            totalBytes -= eldest.next().content().length;
+            eldest.remove();
+        }
+    }
+
+    @Override
+    public int getMaxEntryBytes() {
+        return (int) Math.min(maxEntrySize.toBytes(), Integer.MAX_VALUE - 8);
+    }
+
+    private void remove(String key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes -= removed.content().length;
+        }
+    }
+
+    private record Entry(byte[] content, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,233 @@
+package JavaProject.MoneyWise.services.impls;
+
+import JavaProject.MoneyWise.helper.HelperFunctions;
+import JavaProject.MoneyWise.helper.ResourceNotFoundException;
+import JavaProject.MoneyWise.helper.TooManyRequestsException;
+import JavaProject.MoneyWise.models.dtos.report.ReportInfoDTO;
+import JavaProject.MoneyWise.models.dtos.report.ReportJobDTO;
+import JavaProject.MoneyWise.models.enums.ReportJobStatus;
+import JavaProject.MoneyWise.repositories.UserRepository;
+import JavaProject.MoneyWise.services.PreparedReport;
+import JavaProject.MoneyWise.services.ReportJobService;
+import JavaProject.MoneyWise.services.ReportService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+
+// Runs report fills on a small dedicated pool so heavy PDF work never occupies Tomcat request threads.
+// Jobs live in memory; finished PDFs are spooled to disk and removed together with the job after the TTL.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportJobServiceImpl implements ReportJobService {
+
+    private final ReportService reportService;
+    private final UserRepository userRepository;
+
+    @Value("${reports.jobs.workers:2}")
+    private int workers;
+
+    @Value("${reports.jobs.queue-capacity:50}")
+    private int queueCapacity;
+
+    @Value("${reports.jobs.per-user-limit:2}")
+    private int perUserLimit;
+
+    @Value("${reports.jobs.ttl:PT1H}")
+    private Duration ttl;
+
+    @Value("${reports.jobs.spool-dir:${java.io.tmpdir}/moneywise-reports}")
+    private Path spoolDir;
+
+    private final Map<UUID, ReportJob> jobs = new ConcurrentHashMap<>();
+    // Queued + running jobs per user
+    private final Map<UUID, Integer> activeJobs = new ConcurrentHashMap<>();
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(spoolDir);
+        // Jobs are not persisted, so files left by a previous run can never be downloaded
+        try (Stream<Path> leftovers = Files.list(spoolDir)) {
+            leftovers.forEach(this::deleteQuietly);
+        }
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("report-worker-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public ReportJobDTO submit(ReportInfoDTO reportInfo, String acceptLanguage) {
+        reportService.validate(reportInfo);
+        UUID userId = HelperFunctions.getCurrentUser(userRepository).getId();
+
+        if (!acquireSlot(userId)) {
+            throw new TooManyRequestsException("At most " + perUserLimit + " reports can be generated at the same time");
+        }
+
+        ReportJob job = new ReportJob(UUID.randomUUID(), userId, reportInfo.getType().toLowerCase(),
+                reportService.getFileName(reportInfo, acceptLanguage, "pdf"), Instant.now());
+        jobs.put(job.id, job);
+
+        // The worker runs as the submitting user, so the statistic queries see the same current user
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(SecurityContextHolder.getContext().getAuthentication());
+        try {
+            executor.execute(new DelegatingSecurityContextRunnable(() -> run(job, reportInfo, acceptLanguage), context));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            releaseSlot(userId);
+            throw new TooManyRequestsException("The report queue is full, please try again later");
+        }
+        return toDTO(job);
+    }
+
+    @Override
+    public ReportJobDTO getJob(UUID jobId) {
+        return toDTO(findOwnedJob(jobId));
+    }
+
+    @Override
+    public Resource getResult(UUID jobId) {
+        ReportJob job = findOwnedJob(jobId);
+        if (job.status != ReportJobStatus.COMPLETED || job.file == null || !Files.exists(job.file)) {
+            throw new ResourceNotFoundException("Report is not available");
+        }
+        return new FileSystemResource(job.file);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${reports.jobs.cleanup-interval:PT5M}")
+    public void cleanupExpiredJobs() {
+        Instant now = Instant.now();
+        jobs.values().removeIf(job -> {
+            if (job.expiresAt == null || job.expiresAt.isAfter(now)) {
+                return false;
+            }
+            if (job.file != null) {
+                deleteQuietly(job.file);
+            }
+            return true;
+        });
+    }
+
+    private void run(ReportJob job, ReportInfoDTO reportInfo, String acceptLanguage) {
+        job.status = ReportJobStatus.RUNNING;
+        Path target = spoolDir.resolve(job.id + ".pdf");
+        Path partial = spoolDir.resolve(job.id + ".pdf.part");
+        try {
+            PreparedReport report = reportService.prepareReport(reportInfo, acceptLanguage);
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(partial))) {
+                report.writeTo(out);
+            }
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            job.file = target;
+            job.status = ReportJobStatus.COMPLETED;
+        } catch (IllegalArgumentException e) {
+            job.error = e.getMessage();
+            job.status = ReportJobStatus.FAILED;
+        } catch (Exception e) {
+            log.error("Report job {} ({}) failed: {}", job.id, job.type, e.getMessage(), e);
+            job.error = "Error generating report";
+            job.status = ReportJobStatus.FAILED;
+        } finally {
+            // Whatever went wrong, don't leave a half-written .part behind in the spool dir
+            if (job.status != ReportJobStatus.COMPLETED) {
+                deleteQuietly(partial);
+            }
+            job.completedAt = Instant.now();
+            job.expiresAt = job.completedAt.plus(ttl);
+            releaseSlot(job.userId);
+        }
+    }
+
+    // Other users' jobs are reported as missing rather than forbidden
+    private ReportJob findOwnedJob(UUID jobId) {
+        UUID userId = HelperFunctions.getCurrentUser(userRepository).getId();
+        ReportJob job = jobs.get(jobId);
+        if (job == null || !job.userId.equals(userId)) {
+            throw new ResourceNotFoundException("Report job not found");
+        }
+        return job;
+    }
+
+    private boolean acquireSlot(UUID userId) {
+        boolean[] acquired = {false};
+        activeJobs.compute(userId, (id, count) -> {
+            int current = count == null ? 0 : count;
+            if (current >= perUserLimit) {
+                return current;
+            }
+            acquired[0] = true;
+            return current + 1;
+        });
+        return acquired[0];
+    }
+
+    private void releaseSlot(UUID userId) {
+        activeJobs.computeIfPresent(userId, (id, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete spooled report {}: {}", path, e.getMessage());
+        }
+    }
+
+    private ReportJobDTO toDTO(ReportJob job) {
+        return new ReportJobDTO(job.id, job.type, job.status, job.fileName, job.error,
+                job.createdAt, job.completedAt, job.expiresAt);
+    }
+
+    private static final class ReportJob {
+        private final UUID id;
+        private final UUID userId;
+        private final String type;
+        private final String fileName;
+        private final Instant createdAt;
+        private volatile ReportJobStatus status = ReportJobStatus.QUEUED;
+        private volatile Path file;
+        private volatile String error;
+        private volatile Instant completedAt;
+        private volatile Instant expiresAt;
+
+        private ReportJob(UUID id, UUID userId, String type, String fileName, Instant createdAt) {
+            this.id = id;
+            this.userId = userId;
+            this.type = type;
+            this.fileName = fileName;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package JavaProject.MoneyWise.services.impls;
+
+import JavaProject.MoneyWise.helper.CurrencyConverter;
+import JavaProject.MoneyWise.helper.ReportExporters;
+import JavaProject.MoneyWise.helper.ReportTables;
+import JavaProject.MoneyWise.helper.ReportTemplateRegistry;
+import JavaProject.MoneyWise.models.dtos.report.ReportInfoDTO;
+import JavaProject.MoneyWise.models.dtos.report.ReportTable;
+import JavaProject.MoneyWise.models.dtos.statistic.CashFlowSummaryDTO;
+import JavaProject.MoneyWise.services.PreparedReport;
+import JavaProject.MoneyWise.services.ReportCacheService;
+import JavaProject.MoneyWise.services.ReportExporter;
+import JavaProject.MoneyWise.services.ReportService;
+import JavaProject.MoneyWise.services.StatisticService;
+import lombok.RequiredArgsConstructor;
+import net.sf.jasperreports.engine.JREmptyDataSource;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JasperPrint;
+import net.sf.jasperreports.engine.data.JRBeanCollectionDataSource;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Builds report data and renders it as a Jasper PDF or through a ReportExporter; shared by the synchronous endpoint
+// and the report job workers
+@Service
+@RequiredArgsConstructor
+public class ReportServiceImpl implements ReportService {
+
+    private final StatisticService statisticService;
+    private final CurrencyConverter currencyConverter;
+    private final ReportTemplateRegistry reportTemplateRegistry;
+    private final ReportCacheService reportCacheService;
+    private final ReportExporters reportExporters;
+
+    @Override
+    public void validate(ReportInfoDTO reportInfo) {
+        if (reportInfo.getEndDate() != null && reportInfo.getStartDate().isAfter(reportInfo.getEndDate())) {
+            throw new IllegalArgumentException("Start date must not be after end date");
+        }
+        String currency = resolveCurrency(reportInfo);
+        if (!currency.equals("VND") && !currencyConverter.supportsCurrency(currency)) {
+            throw new IllegalArgumentException("Unsupported currency: " + currency);
+        }
+        String reportType = reportInfo.getType().toLowerCase();
+        if (!reportTemplateRegistry.contains(reportType)) {
+            throw new IllegalArgumentException("Report template not found: " + reportType);
+        }
+    }
+
+    @Override
+    public PreparedReport prepareReport(ReportInfoDTO reportInfo, String acceptLanguage) throws JRException {
+        validate(reportInfo);
+
+        // Repeat downloads of unchanged data skip report data, fill and export entirely
+        String cacheKey = reportCacheService.cacheKey(reportInfo, resolveCurrency(reportInfo), languageCode(acceptLanguage));
+        byte[] cached = reportCacheService.get(cacheKey);
+        if (cached != null) {
+            return out -> out.write(cached);
+        }
+
+        JasperPrint jasperPrint = fillReport(reportInfo, acceptLanguage);
+        return out -> {
+            CapturingOutputStream capture = new CapturingOutputStream(out, reportCacheService.getMaxEntryBytes());
+            try {
+                reportTemplateRegistry.exportPdf(jasperPrint, capture);
+            } catch (JRException e) {
+                throw new IOException("Error exporting report PDF", e);
+            }
+            capture.flush();
+            byte[] content = capture.getCaptured();
+            if (content != null) {
+                reportCacheService.put(cacheKey, content);
+            }
+        };
+    }
+
+    @Override
+    public PreparedReport prepareExport(ReportInfoDTO reportInfo, String acceptLanguage, ReportExporter exporter) {
+        validate(reportInfo);
+        ReportTable table = ReportTables.of(loadReportData(reportInfo, acceptLanguage));
+        return out -> exporter.export(table, out);
+    }
+
+    // PDF when neither the Accept header nor the format field names an exporter
+    @Override
+    public Optional<ReportExporter> findExporter(String accept, String format) {
+        return reportExporters.find(accept, format);
+    }
+
+    private Object loadReportData(ReportInfoDTO reportInfo, String acceptLanguage) {
+        // Pass acceptLanguage to service for localized report data
+        Object reportData = statisticService.generateReportData(reportInfo, acceptLanguage);
+
+        // Any currency in the cached rate table, converted through USD without a network call
+        String currency = resolveCurrency(reportInfo);
+        if (!currency.equals("VND")) {
+            BigDecimal exchangeRate = currencyConverter.fetchExchangeRate(currency);
+            reportData = currencyConverter.convertForReport(reportData, exchangeRate, reportInfo.getType());
+        }
+        return reportData;
+    }
+
+    private JasperPrint fillReport(ReportInfoDTO reportInfo, String acceptLanguage) throws JRException {
+        Object reportData = loadReportData(reportInfo, acceptLanguage);
+        String currency = resolveCurrency(reportInfo);
+        String reportType = reportInfo.getType().toLowerCase();
+
+        // Parameters for report
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("startDate", reportInfo.getStartDate());
+        parameters.put("endDate", reportInfo.getEndDate());
+        parameters.put("currencySymbol", currency);
+        parameters.put("languageCode", languageCode(acceptLanguage));
+        parameters.put("currencyConverter", currencyConverter);
+
+        if ("cash-flow".equals(reportType) && reportData instanceof CashFlowSummaryDTO cashFlow) {
+            parameters.put("cashFlowData", cashFlow);
+            return reportTemplateRegistry.fill(reportType, parameters, new JREmptyDataSource());
+        }
+        JRBeanCollectionDataSource dataSource = reportData instanceof List<?> rows
+                ? new JRBeanCollectionDataSource(rows)
+                : new JRBeanCollectionDataSource(List.of(reportData));
+        return reportTemplateRegistry.fill(reportType, parameters, dataSource);
+    }
+
+    @Override
+    public String getFileName(ReportInfoDTO reportInfo, String acceptLanguage, String extension) {
+        return "report_" + reportInfo.getType().toLowerCase() + "_" + languageCode(acceptLanguage) + "_" + System.currentTimeMillis() + "." + extension;
+    }
+
+    private String resolveCurrency(ReportInfoDTO reportInfo) {
+        return reportInfo.getCurrency() != null ? reportInfo.getCurrency().toUpperCase() : "VND";
+    }
+
+    private String languageCode(String acceptLanguage) {
+        return acceptLanguage != null ? acceptLanguage.split(",")[0].split("-")[0] : "en";
+    }
+
+    // Passes everything through to the target and keeps a copy for the report cache, up to a size limit
+    private static final class CapturingOutputStream extends FilterOutputStream {
+        private final int limit;
+        private ByteArrayOutputStream copy = new ByteArrayOutputStream();
+
+        private CapturingOutputStream(OutputStream target, int limit) {
+            super(target);
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            if (copy != null) {
+                copy.write(b);
+                checkLimit();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            if (copy != null) {
+                copy.write(b, off, len);
+                checkLimit();
+            }
+        }
+
+        // null when the output outgrew the limit
+        private byte[] getCaptured() {
+            return copy != null ? copy.toByteArray() : null;
+        }
+
+        private void checkLimit() {
+            if (copy.size() > limit) {
+                copy = null;
+            }
+        }
+    }
+}
@@ -26,126 +26,83 @@ import java.util.stream.IntStream;
 @Service
 public class StatisticServiceImpl implements StatisticService {
 
-        private final TransactionRepository transactionRepository;
         private final WalletRepository walletRepository;
         private final UserRepository userRepository;
         private final BudgetRepository budgetRepository;
         private final SavingGoalRepository savingGoalRepository;
+        private final DailyWalletCategoryTotalRepository dailyTotalRepository;
 
         private static final String TRANSACTION_TYPE_INCOME = "income";
         private static final String TRANSACTION_TYPE_EXPENSE = "expense";
 
+        // Bounds used for open-ended ranges; both stay within PostgreSQL's date range
+        private static final LocalDate EARLIEST_DATE = LocalDate.of(1900, 1, 1);
+        private static final LocalDate LATEST_DATE = LocalDate.of(9999, 12, 31);
+
         @Override
         @Transactional(readOnly = true)
-        public List<CategoryBreakdownDTO> getCategoryBreakdown(LocalDate startDate, LocalDate endDate) {
+        public List<CategoryBreakdownDTO> getCategoryBreakdown(LocalDate startDate, LocalDate endDate,
+                                                               @Nullable String type) {
                 try {
-                    log.info("Generating category breakdown for period {} to {}", startDate, endDate);
+                    log.info("Generating category breakdown for period {} to {} (type: {})", startDate, endDate, type);
+
+                    User currentUser = HelperFunctions.getCurrentUser(userRepository);
 
-                    User currentUser = HelperFunctions.getCurrentUser(userRepository); // Your method to get
-                    // authenticated user
+                    // One grouped query: per-category income/expense totals within the period
+                    List<BreakdownTotalDTO> totals = dailyTotalRepository
+                            .sumByCategoryAndType(currentUser, startDate, endDate, normalizeType(type));
 
-                    // Get all wallets owned by the current user
-                    List<Wallet> userWallets = walletRepository.findAllByUser(currentUser);
-                    Set<UUID> userWalletIds = userWallets.stream()
-                            .map(Wallet::getWalletId)
+                    BigDecimal totalIncome = sumBreakdownTotals(totals, TRANSACTION_TYPE_INCOME);
+                    BigDecimal totalExpense = sumBreakdownTotals(totals, TRANSACTION_TYPE_EXPENSE).abs();
+
+                    // Group by category name; the first category id of each name is used for budget/goal lookups
+                    Map<String, List<BreakdownTotalDTO>> groupedByCategory = totals.stream()
+                            .collect(Collectors.groupingBy(BreakdownTotalDTO::getName));
+                    Set<UUID> categoryIds = groupedByCategory.values().stream()
+                            .map(rows -> rows.getFirst().getId())
                             .collect(Collectors.toSet());
 
-                    // Fetch transactions filtered by date and wallet ownership
-                    List<Transaction> transactions = transactionRepository.findAllByWalletUser(currentUser).stream()
-                            .filter(t -> !t.getTransactionDate().toLocalDate().isBefore(startDate) &&
-                                    !t.getTransactionDate().toLocalDate().isAfter(endDate) &&
-                                    userWalletIds.contains(t.getWallet().getWalletId()))
-                            .toList();
-
-                    // Separate income and expenses
-                    List<Transaction> incomeTransactions = transactions.stream()
-                            .filter(t -> TRANSACTION_TYPE_INCOME.equalsIgnoreCase(t.getType()))
-                            .toList();
-
-                    List<Transaction> expenseTransactions = transactions.stream()
-                            .filter(t -> TRANSACTION_TYPE_EXPENSE.equalsIgnoreCase(t.getType()))
-                            .toList();
-
-                    BigDecimal totalIncome = incomeTransactions.stream()
-                            .map(Transaction::getAmount)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add);
-                    BigDecimal totalExpense = expenseTransactions.stream()
-                            .map(Transaction::getAmount)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add)
-                            .abs();
-
-                    // Group by category name and calculate totals and percentages
-                    Map<String, List<Transaction>> groupedByCategory = transactions.stream()
-                            .collect(Collectors.groupingBy(t -> t.getCategory().getName()));
+                    // One batched fetch each for budgets and saving goals of all categories
+                    Map<UUID, Budget> budgetByCategory = categoryIds.isEmpty() ? Map.of()
+                            : budgetRepository.findOverlappingByCategoryIds(
+                                            categoryIds, currentUser,
+                                            startDate.atStartOfDay(),
+                                            endDate.atStartOfDay())
+                                    .stream()
+                                    .collect(Collectors.toMap(b -> b.getCategory().getCategoryId(), b -> b,
+                                            (first, second) -> first));
+                    Map<UUID, SavingGoal> goalByCategory = categoryIds.isEmpty() ? Map.of()
+                            : savingGoalRepository.findOverlappingByCategoryIds(
+                                            categoryIds, currentUser,
+                                            startDate.atStartOfDay(),
+                                            endDate.atStartOfDay())
+                                    .stream()
+                                    .collect(Collectors.toMap(g -> g.getCategory().getCategoryId(), g -> g,
+                                            (first, second) -> first));
 
                     return groupedByCategory.entrySet().stream()
                             .map(entry -> {
                                 String categoryName = entry.getKey();
-                                List<Transaction> categoryTransactions = entry.getValue();
-                                Category category = categoryTransactions.getFirst().getCategory();
-
-                                BigDecimal categoryIncome = categoryTransactions.stream()
-                                        .filter(t -> TRANSACTION_TYPE_INCOME
-                                                .equalsIgnoreCase(t.getType()))
-                                        .map(Transaction::getAmount)
-                                        .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-                                BigDecimal categoryExpense = categoryTransactions.stream()
-                                        .filter(t -> TRANSACTION_TYPE_EXPENSE
-                                                .equalsIgnoreCase(t.getType()))
-                                        .map(Transaction::getAmount)
-                                        .reduce(BigDecimal.ZERO, BigDecimal::add)
+                                List<BreakdownTotalDTO> categoryTotals = entry.getValue();
+                                UUID categoryId = categoryTotals.getFirst().getId();
+
+                                BigDecimal categoryIncome = sumBreakdownTotals(categoryTotals, TRANSACTION_TYPE_INCOME);
+                                BigDecimal categoryExpense = sumBreakdownTotals(categoryTotals, TRANSACTION_TYPE_EXPENSE)
                                         .abs();
 
-                                BigDecimal incomePercentage = totalIncome
-                                        .compareTo(BigDecimal.ZERO) == 0
-                                        ? BigDecimal.ZERO
-                                        : categoryIncome.divide(totalIncome, 4,
-                                                RoundingMode.HALF_UP)
-                                        .multiply(BigDecimal
-                                                .valueOf(100))
-                                        .setScale(2, RoundingMode.HALF_UP);
-
-                                BigDecimal expensePercentage = totalExpense
-                                        .compareTo(BigDecimal.ZERO) == 0
-                                        ? BigDecimal.ZERO
-                                        : categoryExpense.divide(totalExpense,
-                                                4, RoundingMode.HALF_UP)
-                                        .multiply(BigDecimal
-                                                .valueOf(100))
-                                        .setScale(2, RoundingMode.HALF_UP);
-
-                                // Fetch Budget and SavingGoal
-                                List<Budget> budgets = budgetRepository
-                                        .findByCategoryAndWalletUserAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
-                                                category, currentUser,
-                                                endDate.atStartOfDay(),
-                                                startDate.atStartOfDay());
-                                List<SavingGoal> goals = savingGoalRepository
-                                        .findByCategoryAndWalletUserAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
-                                                category, currentUser,
-                                                endDate.atStartOfDay(),
-                                                startDate.atStartOfDay());
-
-                                BigDecimal budgetLimit = budgets.isEmpty() ? BigDecimal.ZERO
-                                        : budgets.getFirst().getLimitAmount();
-                                BigDecimal budgetSpending = budgets.isEmpty() ? BigDecimal.ZERO
-                                        : budgets.getFirst().getCurrentSpending();
-                                BigDecimal goalTarget = goals.isEmpty() ? BigDecimal.ZERO
-                                        : goals.getFirst().getTargetAmount();
-                                BigDecimal goalSaved = goals.isEmpty() ? BigDecimal.ZERO
-                                        : goals.getFirst().getSavedAmount();
+                                Budget budget = budgetByCategory.get(categoryId);
+                                SavingGoal goal = goalByCategory.get(categoryId);
 
                                 return new CategoryBreakdownDTO(
                                         categoryName,
                                         categoryIncome,
                                         categoryExpense,
-                                        incomePercentage,
-                                        expensePercentage,
-                                        budgetLimit,
-                                        budgetSpending,
-                                        goalTarget,
-                                        goalSaved);
+                                        percentageOf(categoryIncome, totalIncome),
+                                        percentageOf(categoryExpense, totalExpense),
+                                        budget == null ? BigDecimal.ZERO : budget.getLimitAmount(),
+                                        budget == null ? BigDecimal.ZERO : budget.getCurrentSpending(),
+                                        goal == null ? BigDecimal.ZERO : goal.getTargetAmount(),
+                                        goal == null ? BigDecimal.ZERO : goal.getSavedAmount());
                             })
                             .sorted(Comparator.comparing(
                                     dto -> dto.getTotalIncome().add(dto.getTotalExpense()),
@@ -165,40 +122,19 @@ public class StatisticServiceImpl implements StatisticService {
             try {
                 log.info("Generating cash flow summary from {} to {}", startDate, endDate);
                 User currentUser = HelperFunctions.getCurrentUser(userRepository);
-                LocalDateTime startDateTime = startDate != null ? startDate.atStartOfDay() : null;
-                LocalDateTime endDateTime = endDate != null ? endDate.atTime(LocalTime.MAX) : null;
-
-                List<UUID> userWalletIds = walletRepository.findAllByUser(currentUser)
-                        .stream()
-                        .map(Wallet::getWalletId)
-                        .collect(Collectors.toList());
-
-                List<Transaction> transactions;
-                if (startDateTime == null && endDateTime == null) {
-                    transactions = transactionRepository.findAllByWalletUser(currentUser);
-                } else if (startDateTime != null && endDateTime == null) {
-                    transactions = transactionRepository.findByWalletWalletIdInAndTransactionDateAfter(
-                            userWalletIds,
-                            startDateTime);
-                } else if (startDateTime == null) {
-                    transactions = transactionRepository.findByWalletWalletIdInAndTransactionDateBefore(
-                            userWalletIds,
-                            endDateTime);
-                } else {
-                    transactions = transactionRepository.findByWalletWalletIdInAndTransactionDateBetween(
-                            userWalletIds,
-                            startDateTime,
-                            endDateTime);
-                }
-
-                BigDecimal totalIncome = transactions.stream()
-                        .filter(t -> TRANSACTION_TYPE_INCOME.equalsIgnoreCase(t.getType()))
-                        .map(Transaction::getAmount)
+                List<TypeTotalDTO> totals = dailyTotalRepository.sumByType(
+                        currentUser,
+                        startDate != null ? startDate : EARLIEST_DATE,
+                        endDate != null ? endDate : LATEST_DATE);
+
+                BigDecimal totalIncome = totals.stream()
+                        .filter(t -> TRANSACTION_TYPE_INCOME.equals(t.getType()))
+                        .map(TypeTotalDTO::getTotal)
                         .reduce(BigDecimal.ZERO, BigDecimal::add);
 
-                BigDecimal totalExpenses = transactions.stream()
-                        .filter(t -> TRANSACTION_TYPE_EXPENSE.equalsIgnoreCase(t.getType()))
-                        .map(Transaction::getAmount)
+                BigDecimal totalExpenses = totals.stream()
+                        .filter(t -> TRANSACTION_TYPE_EXPENSE.equals(t.getType()))
+                        .map(TypeTotalDTO::getTotal)
                         .reduce(BigDecimal.ZERO, BigDecimal::add);
 
                 return new CashFlowSummaryDTO(totalIncome, totalExpenses);
@@ -211,74 +147,32 @@ public class StatisticServiceImpl implements StatisticService {
 
         @Override
         public DailySummaryDTO getDailySummary(LocalDate date) {
-            // 1) resolve user and their wallets
+            // 1) resolve user
             User currentUser = HelperFunctions.getCurrentUser(userRepository);
-            List<UUID> walletIds = walletRepository
-                    .findAllByUser(currentUser)
-                    .stream()
-                    .map(Wallet::getWalletId)
-                    .toList();
-
-            // 2) define day‐bounds
-            LocalDateTime startOfDay = date.atStartOfDay();
-            LocalDateTime endOfDay = date.atTime(LocalTime.MAX);
-
-            // 3) fetch daily transactions (for totals)
-            List<Transaction> dailyTxs = transactionRepository
-                    .findByWalletWalletIdInAndTransactionDateBetween(
-                            walletIds, startOfDay, endOfDay);
-
-            // 4) compute totalIncome & totalExpenses by type
-            BigDecimal totalIncome = dailyTxs.stream()
-                    .filter(tx -> TRANSACTION_TYPE_INCOME.equalsIgnoreCase(tx.getType()))
-                    .map(Transaction::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
 
-            BigDecimal totalExpenses = dailyTxs.stream()
-                    .filter(tx -> TRANSACTION_TYPE_EXPENSE.equalsIgnoreCase(tx.getType()))
-                    .map(Transaction::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-            // 5) define current week (Monday → next Monday)
+            // 2) define current week (Monday → Sunday)
             LocalDate weekStart = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
-            LocalDate weekEnd = weekStart.plusDays(7);
-            LocalDateTime weekStartDT = weekStart.atStartOfDay();
-            LocalDateTime weekEndDT = weekEnd.atStartOfDay();
+            LocalDate weekEnd = weekStart.plusDays(6);
 
-            // 6) fetch week transactions (for dailyDetails)
-            List<Transaction> weekTxs = transactionRepository
-                    .findByWalletWalletIdInAndTransactionDateBetween(
-                            walletIds, weekStartDT, weekEndDT);
+            // 3) fetch per-day totals for the week; the requested day is one of its buckets
+            List<DailyTotalDTO> weekTotals = dailyTotalRepository.sumByDayAndType(currentUser, weekStart, weekEnd);
 
-            // 7) group by DayOfWeek
-            Map<DayOfWeek, List<Transaction>> txsByDow = weekTxs.stream()
-                    .collect(Collectors.groupingBy(tx -> tx.getTransactionDate().getDayOfWeek()));
+            // 4) compute totalIncome & totalExpenses of the requested day
+            BigDecimal totalIncome = sumDailyTotals(weekTotals, date, date, TRANSACTION_TYPE_INCOME);
+            BigDecimal totalExpenses = sumDailyTotals(weekTotals, date, date, TRANSACTION_TYPE_EXPENSE);
 
-            // 8) build a full‐week list, filtering by type
+            // 5) build a full‐week list, filtering by type
             List<DailyDetailDTO> dailyDetails = Arrays.stream(DayOfWeek.values())
                     .map(dow -> {
-                        List<Transaction> txs = txsByDow.getOrDefault(dow, List.of());
-
-                        BigDecimal income = txs.stream()
-                                .filter(tx -> TRANSACTION_TYPE_INCOME
-                                        .equalsIgnoreCase(tx.getType()))
-                                .map(Transaction::getAmount)
-                                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-                        BigDecimal expense = txs.stream()
-                                .filter(tx -> TRANSACTION_TYPE_EXPENSE
-                                        .equalsIgnoreCase(tx.getType()))
-                                .map(Transaction::getAmount)
-                                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
+                        LocalDate day = weekStart.plusDays(dow.ordinal());
                         return new DailyDetailDTO(
                                 dow.getDisplayName(TextStyle.FULL, Locale.ENGLISH),
-                                income,
-                                expense);
+                                sumDailyTotals(weekTotals, day, day, TRANSACTION_TYPE_INCOME),
+                                sumDailyTotals(weekTotals, day, day, TRANSACTION_TYPE_EXPENSE));
                     })
                     .collect(Collectors.toList());
 
-            // 9) assemble and return
+            // 6) assemble and return
             DailySummaryDTO summary = new DailySummaryDTO();
             summary.setDailyDetails(dailyDetails);
             summary.setTotalIncome(totalIncome);
@@ -289,12 +183,9 @@ public class StatisticServiceImpl implements StatisticService {
         @Override
         @Transactional(readOnly = true)
         public WeeklySummaryDTO getWeeklySummary(LocalDate weekStartDate) {
-            // 1. Get all wallet IDs for the user
+            // 1. Check the user has any wallet at all
             User currentUser = HelperFunctions.getCurrentUser(userRepository);
-            List<UUID> userWalletIds = walletRepository.findAllByUser(currentUser)
-                    .stream().map(Wallet::getWalletId).collect(Collectors.toList());
-
-            if (userWalletIds.isEmpty()) {
+            if (!walletRepository.existsByUser(currentUser)) {
                 // No wallets -> empty summary
                 WeeklySummaryDTO empty = new WeeklySummaryDTO();
                 empty.setWeeklyDetails(new ArrayList<>());
@@ -311,14 +202,11 @@ public class StatisticServiceImpl implements StatisticService {
             LocalDate firstWeekStart = firstDayOfMonth.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
             LocalDate lastWeekEnd = lastDayOfMonth.with(TemporalAdjusters.next(DayOfWeek.SUNDAY)).plusDays(1);
 
-            // 4. Fetch all transactions in the expanded range
-            List<Transaction> allMonthTransactions = transactionRepository
-                    .findByWalletWalletIdInAndTransactionDateBetween(
-                            userWalletIds,
-                            firstWeekStart.atStartOfDay(),
-                            lastWeekEnd.atStartOfDay());
+            // 4. Fetch per-day totals in the expanded range
+            List<DailyTotalDTO> dailyTotals = dailyTotalRepository.sumByDayAndType(
+                    currentUser, firstWeekStart, lastWeekEnd.minusDays(1));
 
-            // 5. Process weekly details
+            // 5. Fold days into weekly details
             List<WeeklyDetailDTO> weeklyDetails = new ArrayList<>();
             BigDecimal totalIncome = BigDecimal.ZERO;
             BigDecimal totalExpenses = BigDecimal.ZERO;
@@ -326,27 +214,10 @@ public class StatisticServiceImpl implements StatisticService {
             int weekNumber = 1;
             for (LocalDate weekStart = firstWeekStart; weekStart
                     .isBefore(lastWeekEnd); weekStart = weekStart.plusWeeks(1), weekNumber++) {
-                LocalDate weekEnd = weekStart.plusDays(7);
-
-                LocalDate finalWeekStart = weekStart;
-                List<Transaction> weekTxs = allMonthTransactions.stream()
-                        .filter(t -> {
-                            LocalDate date = t.getTransactionDate().toLocalDate();
-                            return !date.isBefore(finalWeekStart) && date.isBefore(weekEnd);
-                        })
-                        .toList();
-
-                // SỬA ĐỔI TẠI ĐÂY: Sử dụng equalsIgnoreCase
-                BigDecimal income = weekTxs.stream()
-                        .filter(t -> TRANSACTION_TYPE_INCOME.equalsIgnoreCase(t.getType()))
-                        .map(Transaction::getAmount)
-                        .reduce(BigDecimal.ZERO, BigDecimal::add);
+                LocalDate weekEnd = weekStart.plusDays(6);
 
-                // SỬA ĐỔI TẠI ĐÂY: Sử dụng equalsIgnoreCase
-                BigDecimal expense = weekTxs.stream()
-                        .filter(t -> TRANSACTION_TYPE_EXPENSE.equalsIgnoreCase(t.getType()))
-                        .map(t -> t.getAmount().abs())
-                        .reduce(BigDecimal.ZERO, BigDecimal::add);
+                BigDecimal income = sumDailyTotals(dailyTotals, weekStart, weekEnd, TRANSACTION_TYPE_INCOME);
+                BigDecimal expense = sumDailyTotals(dailyTotals, weekStart, weekEnd, TRANSACTION_TYPE_EXPENSE).abs();
 
                 totalIncome = totalIncome.add(income);
                 totalExpenses = totalExpenses.add(expense);
@@ -369,12 +240,9 @@ public class StatisticServiceImpl implements StatisticService {
         @Override
         @Transactional(readOnly = true)
         public MonthlySummaryDTO getMonthlySummary(YearMonth yearMonth) {
-            // 1. Get wallet IDs for the user
+            // 1. Check the user has any wallet at all
             User currentUser = HelperFunctions.getCurrentUser(userRepository);
-            List<UUID> userWalletIds = walletRepository.findAllByUser(currentUser)
-                    .stream().map(Wallet::getWalletId).collect(Collectors.toList());
-
-            if (userWalletIds.isEmpty()) {
+            if (!walletRepository.existsByUser(currentUser)) {
                 MonthlySummaryDTO empty = new MonthlySummaryDTO();
                 empty.setMonthlyDetails(new ArrayList<>());
                 empty.setTotalIncome(BigDecimal.ZERO);
@@ -382,73 +250,29 @@ public class StatisticServiceImpl implements StatisticService {
                 return empty;
             }
 
-            // 2. Define year range (This seems to be for the *entire* year, not just the
-            // month)
-            // If you only want the specific month, you can adjust the fetch range.
-            // For current logic that fetches whole year then filters by month:
+            // 2. Define year range; the details cover every month of the year
             LocalDate startOfYear = yearMonth.atDay(1).withDayOfYear(1);
             LocalDate endOfYear = startOfYear.plusYears(1).minusDays(1);
 
-            // 3. Fetch all transactions for the year for the user's wallets
-            List<Transaction> yearTransactions = transactionRepository
-                    .findByWalletWalletIdInAndTransactionDateBetween(
-                            userWalletIds,
-                            startOfYear.atStartOfDay(),
-                            endOfYear.atTime(LocalTime.MAX));
+            // 3. Fetch per-month totals for the year
+            List<PeriodTotalDTO> monthTotals = dailyTotalRepository.sumByMonthAndType(
+                    currentUser, startOfYear, endOfYear);
 
             // 4. Build MonthlyDetailDTOs for each month
             List<MonthlyDetailDTO> monthlyDetails = IntStream.rangeClosed(1, 12)
                     .mapToObj(month -> {
-                        List<Transaction> monthlyTxs = yearTransactions.stream()
-                                .filter(t -> t.getTransactionDate().getMonthValue() == month)
-                                .toList();
-
-                        // SỬA ĐỔI TẠI ĐÂY: Sử dụng equalsIgnoreCase
-                        BigDecimal income = monthlyTxs.stream()
-                                .filter(t -> TRANSACTION_TYPE_INCOME
-                                        .equalsIgnoreCase(t.getType()))
-                                .map(Transaction::getAmount)
-                                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-                        // SỬA ĐỔI TẠI ĐÂY: Sử dụng equalsIgnoreCase
-                        BigDecimal expense = monthlyTxs.stream()
-                                .filter(t -> TRANSACTION_TYPE_EXPENSE
-                                        .equalsIgnoreCase(t.getType()))
-                                .map(t -> t.getAmount().abs())
-                                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
                         MonthlyDetailDTO dto = new MonthlyDetailDTO();
                         dto.setMonthName(Month.of(month).getDisplayName(TextStyle.FULL,
                                 Locale.getDefault()));
-                        dto.setIncome(income);
-                        dto.setExpense(expense);
+                        dto.setIncome(sumPeriodTotals(monthTotals, month, TRANSACTION_TYPE_INCOME));
+                        dto.setExpense(sumPeriodTotals(monthTotals, month, TRANSACTION_TYPE_EXPENSE).abs());
                         return dto;
                     })
                     .collect(Collectors.toList());
 
-            // 5. Sum total income and expenses for requested month
-            LocalDate startOfMonth = yearMonth.atDay(1);
-            LocalDate endOfMonth = startOfMonth.plusMonths(1).minusDays(1);
-
-            BigDecimal totalIncome = yearTransactions.stream()
-                    .filter(t -> {
-                        LocalDate d = t.getTransactionDate().toLocalDate();
-                        return !d.isBefore(startOfMonth) && !d.isAfter(endOfMonth);
-                    })
-                    // SỬA ĐỔI TẠI ĐÂY: Sử dụng equalsIgnoreCase
-                    .filter(t -> TRANSACTION_TYPE_INCOME.equalsIgnoreCase(t.getType()))
-                    .map(Transaction::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-            BigDecimal totalExpenses = yearTransactions.stream()
-                    .filter(t -> {
-                        LocalDate d = t.getTransactionDate().toLocalDate();
-                        return !d.isBefore(startOfMonth) && !d.isAfter(endOfMonth);
-                    })
-                    // SỬA ĐỔI TẠI ĐÂY: Sử dụng equalsIgnoreCase
-                    .filter(t -> TRANSACTION_TYPE_EXPENSE.equalsIgnoreCase(t.getType()))
-                    .map(t -> t.getAmount().abs())
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            // 5. Totals for the requested month
+            BigDecimal totalIncome = sumPeriodTotals(monthTotals, yearMonth.getMonthValue(), TRANSACTION_TYPE_INCOME);
+            BigDecimal totalExpenses = sumPeriodTotals(monthTotals, yearMonth.getMonthValue(), TRANSACTION_TYPE_EXPENSE).abs();
 
             // 6. Return DTO
             MonthlySummaryDTO result = new MonthlySummaryDTO();
@@ -461,14 +285,9 @@ public class StatisticServiceImpl implements StatisticService {
         @Override
         @Transactional(readOnly = true)
         public YearlySummaryDTO getYearlySummary(int year) {
-            // 1. Get all wallet UUIDs for the current user
+            // 1. Check the user has any wallet at all
             User currentUser = HelperFunctions.getCurrentUser(userRepository);
-            List<UUID> userWalletIds = walletRepository.findAllByUser(currentUser)
-                    .stream().map(Wallet::getWalletId).collect(Collectors.toList());
-
-            // 2. Define the year range (last 5 years up to the specified year)
-            // Ensure to handle cases where userWalletIds is empty
-            if (userWalletIds.isEmpty()) {
+            if (!walletRepository.existsByUser(currentUser)) {
                 YearlySummaryDTO empty = new YearlySummaryDTO();
                 empty.setYearlyDetails(new ArrayList<>());
                 empty.setTotalIncome(BigDecimal.ZERO);
@@ -476,62 +295,31 @@ public class StatisticServiceImpl implements StatisticService {
                 return empty;
             }
 
+            // 2. Define the year range (last 5 years up to the specified year)
             int yearsToShow = 5;
             int startYear = year - yearsToShow + 1;
 
-            LocalDateTime startOfRange = LocalDateTime.of(startYear, 1, 1, 0, 0);
-            LocalDateTime endOfRange = LocalDateTime.of(year, 12, 31, 23, 59, 59, 999_000_000);
+            LocalDate startOfRange = LocalDate.of(startYear, 1, 1);
+            LocalDate endOfRange = LocalDate.of(year, 12, 31);
 
-            // 3. Fetch transactions across that range for user's wallets
-            List<Transaction> allTransactions = transactionRepository
-                    .findByWalletWalletIdInAndTransactionDateBetween(userWalletIds, startOfRange,
-                            endOfRange);
+            // 3. Fetch per-year totals across that range
+            List<PeriodTotalDTO> yearTotals = dailyTotalRepository.sumByYearAndType(
+                    currentUser, startOfRange, endOfRange);
 
             // 4. Build YearlyDetailDTO list
             List<YearlyDetailDTO> yearlyDetails = IntStream.rangeClosed(startYear, year)
                     .mapToObj(yr -> {
-                        List<Transaction> yearTxs = allTransactions.stream()
-                                .filter(t -> t.getTransactionDate().getYear() == yr)
-                                .toList();
-
-                        // SỬA ĐỔI TẠI ĐÂY: Sử dụng equalsIgnoreCase
-                        BigDecimal income = yearTxs.stream()
-                                .filter(t -> TRANSACTION_TYPE_INCOME
-                                        .equalsIgnoreCase(t.getType()))
-                                .map(Transaction::getAmount)
-                                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-                        // SỬA ĐỔI TẠI ĐÂY: Sử dụng equalsIgnoreCase
-                        BigDecimal expense = yearTxs.stream()
-                                .filter(t -> TRANSACTION_TYPE_EXPENSE
-                                        .equalsIgnoreCase(t.getType()))
-                                .map(Transaction::getAmount)
-                                .reduce(BigDecimal.ZERO, BigDecimal::add).abs();
-
                         YearlyDetailDTO detail = new YearlyDetailDTO();
                         detail.setYear(String.valueOf(yr));
-                        detail.setIncome(income);
-                        detail.setExpense(expense);
+                        detail.setIncome(sumPeriodTotals(yearTotals, yr, TRANSACTION_TYPE_INCOME));
+                        detail.setExpense(sumPeriodTotals(yearTotals, yr, TRANSACTION_TYPE_EXPENSE).abs());
                         return detail;
                     })
                     .collect(Collectors.toList());
 
-            // 5. Compute total income and expense for the requested year
-            List<Transaction> currentYearTxs = allTransactions.stream()
-                    .filter(t -> t.getTransactionDate().getYear() == year)
-                    .toList();
-
-            // SỬA ĐỔI TẠI ĐÂY: Sử dụng equalsIgnoreCase
-            BigDecimal totalIncome = currentYearTxs.stream()
-                    .filter(t -> TRANSACTION_TYPE_INCOME.equalsIgnoreCase(t.getType()))
-                    .map(Transaction::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-            // SỬA ĐỔI TẠI ĐÂY: Sử dụng equalsIgnoreCase
-            BigDecimal totalExpenses = currentYearTxs.stream()
-                    .filter(t -> TRANSACTION_TYPE_EXPENSE.equalsIgnoreCase(t.getType()))
-                    .map(Transaction::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add).abs();
+            // 5. Totals for the requested year
+            BigDecimal totalIncome = sumPeriodTotals(yearTotals, year, TRANSACTION_TYPE_INCOME);
+            BigDecimal totalExpenses = sumPeriodTotals(yearTotals, year, TRANSACTION_TYPE_EXPENSE).abs();
 
             // 6. Create and return summary DTO
             YearlySummaryDTO result = new YearlySummaryDTO();
@@ -541,109 +329,88 @@ public class StatisticServiceImpl implements StatisticService {
             return result;
         }
 
+        // Sum of the day buckets of the given type that fall within [fromDay, toDay]
+        private static BigDecimal sumDailyTotals(List<DailyTotalDTO> totals, LocalDate fromDay, LocalDate toDay,
+                                                 String type) {
+            return totals.stream()
+                    .filter(t -> type.equals(t.getType())
+                            && !t.getDay().isBefore(fromDay)
+                            && !t.getDay().isAfter(toDay))
+                    .map(DailyTotalDTO::getTotal)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+        }
+
+        // Sum of the month/year bucket of the given type
+        private static BigDecimal sumPeriodTotals(List<PeriodTotalDTO> totals, int period, String type) {
+            return totals.stream()
+                    .filter(t -> type.equals(t.getType()) && t.getPeriod() == period)
+                    .map(PeriodTotalDTO::getTotal)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+        }
+
     @Transactional(readOnly = true)
     @Override
-    public List<WalletBreakdownDTO> getWalletBreakdown(LocalDate startDate, LocalDate endDate) {
+    public List<WalletBreakdownDTO> getWalletBreakdown(LocalDate startDate, LocalDate endDate,
+                                                       @Nullable String type) {
         try {
-            log.info("Generating wallet breakdown for period {} to {}", startDate, endDate);
+            log.info("Generating wallet breakdown for period {} to {} (type: {})", startDate, endDate, type);
 
             User currentUser = HelperFunctions.getCurrentUser(userRepository);
-            List<Wallet> userWallets = walletRepository.findAllByUser(currentUser);
-            Set<UUID> userWalletIds = userWallets.stream()
-                    .map(Wallet::getWalletId)
-                    .collect(Collectors.toSet());
-
-            List<Transaction> transactions = transactionRepository.findAllByWalletUser(currentUser).stream()
-                    .filter(t -> !t.getTransactionDate().toLocalDate().isBefore(startDate) &&
-                            !t.getTransactionDate().toLocalDate().isAfter(endDate) &&
-                            userWalletIds.contains(t.getWallet().getWalletId()))
-                    .toList();
 
-            List<Transaction> incomeTransactions = transactions.stream()
-                    .filter(t -> TRANSACTION_TYPE_INCOME.equalsIgnoreCase(t.getType()))
-                    .toList();
+            // One grouped query: per-wallet income/expense totals within the period
+            List<BreakdownTotalDTO> totals = dailyTotalRepository
+                    .sumByWalletAndType(currentUser, startDate, endDate, normalizeType(type));
 
-            List<Transaction> expenseTransactions = transactions.stream()
-                    .filter(t -> TRANSACTION_TYPE_EXPENSE.equalsIgnoreCase(t.getType()))
-                    .toList();
+            BigDecimal totalIncome = sumBreakdownTotals(totals, TRANSACTION_TYPE_INCOME);
+            BigDecimal totalExpense = sumBreakdownTotals(totals, TRANSACTION_TYPE_EXPENSE).abs();
 
-            BigDecimal totalIncome = incomeTransactions.stream()
-                    .map(Transaction::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            BigDecimal totalExpense = expenseTransactions.stream()
-                    .map(Transaction::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add)
-                    .abs();
+            // Group by wallet name; the first wallet id of each name is used for budget/goal lookups
+            Map<String, List<BreakdownTotalDTO>> groupedByWallet = totals.stream()
+                    .collect(Collectors.groupingBy(BreakdownTotalDTO::getName));
+            Set<UUID> walletIds = groupedByWallet.values().stream()
+                    .map(rows -> rows.getFirst().getId())
+                    .collect(Collectors.toSet());
 
-            Map<String, List<Transaction>> groupedByWallet = transactions.stream()
-                    .collect(Collectors.groupingBy(t -> t.getWallet().getWalletName()));
+            // One batched fetch each for budgets and saving goals of all wallets
+            Map<UUID, Budget> budgetByWallet = walletIds.isEmpty() ? Map.of()
+                    : budgetRepository.findOverlappingByWalletIds(
+                                    walletIds,
+                                    startDate.atStartOfDay(),
+                                    endDate.atStartOfDay())
+                            .stream()
+                            .collect(Collectors.toMap(b -> b.getWallet().getWalletId(), b -> b,
+                                    (first, second) -> first));
+            Map<UUID, SavingGoal> goalByWallet = walletIds.isEmpty() ? Map.of()
+                    : savingGoalRepository.findOverlappingByWalletIds(
+                                    walletIds,
+                                    startDate.atStartOfDay(),
+                                    endDate.atStartOfDay())
+                            .stream()
+                            .collect(Collectors.toMap(g -> g.getWallet().getWalletId(), g -> g,
+                                    (first, second) -> first));
 
             return groupedByWallet.entrySet().stream()
                     .map(entry -> {
                         String walletName = entry.getKey();
-                        List<Transaction> walletTransactions = entry.getValue();
-                        Wallet wallet = walletTransactions.getFirst().getWallet();
-
-                        BigDecimal walletIncome = walletTransactions.stream()
-                                .filter(t -> TRANSACTION_TYPE_INCOME
-                                        .equalsIgnoreCase(t.getType()))
-                                .map(Transaction::getAmount)
-                                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-                        BigDecimal walletExpense = walletTransactions.stream()
-                                .filter(t -> TRANSACTION_TYPE_EXPENSE
-                                        .equalsIgnoreCase(t.getType()))
-                                .map(Transaction::getAmount)
-                                .reduce(BigDecimal.ZERO, BigDecimal::add)
-                                .abs();
-
-                        BigDecimal incomePercentage = totalIncome
-                                .compareTo(BigDecimal.ZERO) == 0
-                                ? BigDecimal.ZERO
-                                : walletIncome.divide(totalIncome, 4,
-                                        RoundingMode.HALF_UP)
-                                .multiply(BigDecimal
-                                        .valueOf(100))
-                                .setScale(2, RoundingMode.HALF_UP);
-
-                        BigDecimal expensePercentage = totalExpense
-                                .compareTo(BigDecimal.ZERO) == 0
-                                ? BigDecimal.ZERO
-                                : walletExpense.divide(totalExpense, 4,
-                                        RoundingMode.HALF_UP)
-                                .multiply(BigDecimal
-                                        .valueOf(100))
-                                .setScale(2, RoundingMode.HALF_UP);
-
-                        // Fetch Budget and SavingGoal for this wallet
-                        List<Budget> budgets = budgetRepository
-                                .findByWalletAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
-                                        wallet, endDate.atStartOfDay(),
-                                        startDate.atStartOfDay());
-                        List<SavingGoal> goals = savingGoalRepository
-                                .findByWalletAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
-                                        wallet, endDate.atStartOfDay(),
-                                        startDate.atStartOfDay());
-
-                        BigDecimal budgetLimit = budgets.isEmpty() ? BigDecimal.ZERO
-                                : budgets.getFirst().getLimitAmount();
-                        BigDecimal budgetSpending = budgets.isEmpty() ? BigDecimal.ZERO
-                                : budgets.getFirst().getCurrentSpending();
-                        BigDecimal goalTarget = goals.isEmpty() ? BigDecimal.ZERO
-                                : goals.getFirst().getTargetAmount();
-                        BigDecimal goalSaved = goals.isEmpty() ? BigDecimal.ZERO
-                                : goals.getFirst().getSavedAmount();
+                        List<BreakdownTotalDTO> walletTotals = entry.getValue();
+                        UUID walletId = walletTotals.getFirst().getId();
+
+                        BigDecimal walletIncome = sumBreakdownTotals(walletTotals, TRANSACTION_TYPE_INCOME);
+                        BigDecimal walletExpense = sumBreakdownTotals(walletTotals, TRANSACTION_TYPE_EXPENSE).abs();
+
+                        Budget budget = budgetByWallet.get(walletId);
+                        SavingGoal goal = goalByWallet.get(walletId);
 
                         return new WalletBreakdownDTO(
                                 walletName,
                                 walletIncome,
                                 walletExpense,
-                                incomePercentage,
-                                expensePercentage,
-                                budgetLimit,
-                                budgetSpending,
-                                goalTarget,
-                                goalSaved);
+                                percentageOf(walletIncome, totalIncome),
+                                percentageOf(walletExpense, totalExpense),
+                                budget == null ? BigDecimal.ZERO : budget.getLimitAmount(),
+                                budget == null ? BigDecimal.ZERO : budget.getCurrentSpending(),
+                                goal == null ? BigDecimal.ZERO : goal.getTargetAmount(),
+                                goal == null ? BigDecimal.ZERO : goal.getSavedAmount());
                     })
                     .sorted(Comparator.comparing(
                             dto -> dto.getTotalIncome().add(dto.getTotalExpense()),
@@ -656,14 +423,45 @@ public class StatisticServiceImpl implements StatisticService {
         }
     }
 
+    // Lower-cases an optional transaction type filter; null means both types
+    @Nullable
+    private static String normalizeType(@Nullable String type) {
+        if (type == null || type.isBlank()) {
+            return null;
+        }
+        String normalized = type.trim().toLowerCase(Locale.ROOT);
+        if (!TRANSACTION_TYPE_INCOME.equals(normalized) && !TRANSACTION_TYPE_EXPENSE.equals(normalized)) {
+            throw new IllegalArgumentException("Unsupported transaction type: " + type);
+        }
+        return normalized;
+    }
+
+    // Sum of the grouped rows of the given type
+    private static BigDecimal sumBreakdownTotals(List<BreakdownTotalDTO> totals, String type) {
+        return totals.stream()
+                .filter(t -> type.equals(t.getType()))
+                .map(BreakdownTotalDTO::getTotal)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    // part / total as a percentage with two decimals, zero when total is zero
+    private static BigDecimal percentageOf(BigDecimal part, BigDecimal total) {
+        if (total.compareTo(BigDecimal.ZERO) == 0) {
+            return BigDecimal.ZERO;
+        }
+        return part.divide(total, 4, RoundingMode.HALF_UP)
+                .multiply(BigDecimal.valueOf(100))
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+
     @Override
     public Object generateReportData(ReportInfoDTO reportInfo, String acceptLanguage) {
         try {
             switch (reportInfo.getType().toLowerCase()) {
                 case "category-breakdown":
-                    return getCategoryBreakdown(reportInfo.getStartDate(), reportInfo.getEndDate());
+                    return getCategoryBreakdown(reportInfo.getStartDate(), reportInfo.getEndDate(), null);
                 case "wallet-breakdown":
-                    return getWalletBreakdown(reportInfo.getStartDate(), reportInfo.getEndDate());
+                    return getWalletBreakdown(reportInfo.getStartDate(), reportInfo.getEndDate(), null);
                 case "cash-flow":
                     return getCashFlowSummary(reportInfo.getStartDate(), reportInfo.getEndDate());
                 case "daily-summary":
@@ -0,0 +1,31 @@
+package JavaProject.MoneyWise.services.impls;
+
+import JavaProject.MoneyWise.services.ExchangeRateSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// Fixed, offline rates for tests and local runs (exchange-rate.source=stub)
+@Component
+@ConditionalOnProperty(name = "exchange-rate.source", havingValue = "stub")
+public class StubExchangeRateSource implements ExchangeRateSource {
+
+    // Comma-separated CODE:rate pairs per one US dollar
+    @Value("${exchange-rate.stub.rates:VND:25000,EUR:0.92,JPY:150}")
+    private String rates;
+
+    @Override
+    public Map<String, BigDecimal> fetchUsdRates() {
+        Map<String, BigDecimal> parsed = new HashMap<>();
+        for (String pair : rates.split(",")) {
+            String[] parts = pair.split(":");
+            parsed.put(parts[0].trim().toUpperCase(Locale.ROOT), new BigDecimal(parts[1].trim()));
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,391 @@
+package JavaProject.MoneyWise.services.impls;
+
+import JavaProject.MoneyWise.helper.HelperFunctions;
+import JavaProject.MoneyWise.helper.TransactionImportParser;
+import JavaProject.MoneyWise.helper.ValidationException;
+import JavaProject.MoneyWise.models.dtos.statistic.DailyTotalDeltaDTO;
+import JavaProject.MoneyWise.models.dtos.transaction.ImportedTransactionRowDTO;
+import JavaProject.MoneyWise.models.dtos.transaction.TransactionImportResultDTO;
+import JavaProject.MoneyWise.models.entities.*;
+import JavaProject.MoneyWise.repositories.*;
+import JavaProject.MoneyWise.services.DailyTotalService;
+import JavaProject.MoneyWise.services.TransactionImportService;
+import JavaProject.MoneyWise.services.TransactionPartitionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+// Bulk import of bank exports. Rows are parsed as a stream and inserted with JDBC batches; wallet balances,
+// budgets, saving goals and the daily rollup get one aggregated update per affected key at the end instead
+// of the per-transaction queries of TransactionServiceImpl.createTransaction. The import is all-or-nothing.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionImportServiceImpl implements TransactionImportService {
+
+    private static final String TRANSACTION_TYPE_INCOME = "Income";
+    private static final String TRANSACTION_TYPE_EXPENSE = "Expense";
+    private static final String DEFAULT_DESCRIPTION = "No Description";
+    private static final int DESCRIPTION_MAX_LENGTH = 255;
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 50;
+
+    private static final String INSERT_SQL = "INSERT INTO transactions " +
+            "(transaction_id, amount, description, transaction_date, type, wallet_id, category_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final List<DateTimeFormatter> DATE_TIME_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE_TIME,
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm[:ss]"),
+            DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm[:ss]"));
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("dd/MM/yyyy"),
+            DateTimeFormatter.BASIC_ISO_DATE);
+
+    // Optional sign, digits either plain or grouped in threes, optional fraction
+    private static final Pattern DECIMAL_POINT_AMOUNT = Pattern.compile("[+-]?(\\d{1,3}(,\\d{3})+|\\d+)(\\.\\d+)?");
+    private static final Pattern DECIMAL_COMMA_AMOUNT = Pattern.compile("[+-]?(\\d{1,3}(\\.\\d{3})+|\\d+)(,\\d+)?");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final WalletRepository walletRepository;
+    private final CategoryRepository categoryRepository;
+    private final BudgetRepository budgetRepository;
+    private final SavingGoalRepository savingGoalRepository;
+    private final DailyTotalService dailyTotalService;
+    private final TransactionPartitionService transactionPartitionService;
+
+    @Value("${transactions.import.max-rows:100000}")
+    private int maxRows;
+
+    // The file is read twice: a pre-pass collects the months of all rows so their partitions are created before
+    // this transaction inserts anything (creating one later would wait on the locks the import already holds),
+    // then the import pass
+    @Override
+    @Transactional
+    public TransactionImportResultDTO importTransactions(InputStreamSource source, String format, UUID walletId, UUID categoryId,
+                                                         String decimalSeparator) throws IOException {
+        if (!"ofx".equalsIgnoreCase(format) && !"csv".equalsIgnoreCase(format)) {
+            throw new ValidationException(Map.of("format", List.of("Unsupported import format: " + format)));
+        }
+        if (decimalSeparator != null && !decimalSeparator.equals(".") && !decimalSeparator.equals(",")) {
+            throw new ValidationException(Map.of("decimalSeparator", List.of("Decimal separator must be '.' or ','")));
+        }
+        User currentUser = HelperFunctions.getCurrentUser(userRepository);
+
+        Set<YearMonth> months = new TreeSet<>();
+        ImportBatch batch;
+        try (BufferedReader reader = openReader(source)) {
+            char separator = decimalSeparator != null ? decimalSeparator.charAt(0) : defaultDecimalSeparator(reader, format);
+            batch = new ImportBatch(currentUser, walletId, categoryId, separator);
+            int[] rows = {0};
+            parse(reader, format, row -> {
+                if (++rows[0] > maxRows) {
+                    throw new ValidationException(Map.of("file", List.of("An import may contain at most " + maxRows + " transactions")));
+                }
+                try {
+                    months.add(YearMonth.from(parseDate(row.getDate())));
+                } catch (IllegalArgumentException ignored) {
+                    // reported by the import pass
+                }
+            });
+        }
+        ensurePartitions(months);
+
+        try (BufferedReader reader = openReader(source)) {
+            parse(reader, format, batch::add);
+        }
+        return batch.complete();
+    }
+
+    private static BufferedReader openReader(InputStreamSource source) throws IOException {
+        return new BufferedReader(new InputStreamReader(source.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    private static void parse(BufferedReader reader, String format, Consumer<ImportedTransactionRowDTO> consumer) throws IOException {
+        try {
+            if ("ofx".equalsIgnoreCase(format)) {
+                TransactionImportParser.parseOfx(reader, consumer);
+            } else {
+                TransactionImportParser.parseCsv(reader, consumer);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(Map.of("file", List.of(e.getMessage())));
+        }
+    }
+
+    // Historic rows would otherwise all land in the default partition
+    private void ensurePartitions(Set<YearMonth> months) {
+        for (YearMonth month : months) {
+            try {
+                transactionPartitionService.ensurePartition(month);
+            } catch (Exception e) {
+                log.warn("Could not create transactions partition for {}, its rows go to the default partition: {}", month, e.getMessage());
+            }
+        }
+    }
+
+    // A semicolon-separated CSV comes from a decimal-comma locale; OFX and comma-separated CSV use '.'
+    private static char defaultDecimalSeparator(BufferedReader reader, String format) throws IOException {
+        if (!"csv".equalsIgnoreCase(format)) {
+            return '.';
+        }
+        reader.mark(TransactionImportParser.MAX_RECORD_LENGTH);
+        String headerLine = reader.readLine();
+        reader.reset();
+        return headerLine != null && TransactionImportParser.csvDelimiter(headerLine) == ';' ? ',' : '.';
+    }
+
+    // State of one import: ownership lookups done once, pending insert batch and the aggregated deltas
+    private final class ImportBatch {
+        private final User user;
+        private final Map<UUID, Wallet> walletsById = new HashMap<>();
+        private final Map<String, Wallet> walletsByName = new HashMap<>();
+        private final Map<UUID, Category> categoriesById = new HashMap<>();
+        private final Map<String, Category> categoriesByName = new HashMap<>();
+        private final Map<List<UUID>, List<Budget>> budgetsByWalletAndCategory = new HashMap<>();
+        private final Map<List<UUID>, List<SavingGoal>> goalsByWalletAndCategory = new HashMap<>();
+        private final Wallet defaultWallet;
+        private final Category defaultCategory;
+        private final char decimalSeparator;
+
+        private final List<Object[]> pendingInserts = new ArrayList<>(BATCH_SIZE);
+        private final Map<UUID, BigDecimal> walletDeltas = new HashMap<>();
+        private final Map<UUID, BigDecimal> budgetDeltas = new HashMap<>();
+        private final Map<UUID, BigDecimal> goalDeltas = new HashMap<>();
+        private final Map<List<Object>, DailyTotalDeltaDTO> dailyDeltas = new HashMap<>();
+        private final Map<String, List<String>> errors = new LinkedHashMap<>();
+        private LocalDateTime firstDate;
+        private LocalDateTime lastDate;
+
+        private ImportBatch(User user, UUID walletId, UUID categoryId, char decimalSeparator) {
+            this.user = user;
+            this.decimalSeparator = decimalSeparator;
+            for (Wallet wallet : walletRepository.findAllByUser(user)) {
+                walletsById.put(wallet.getWalletId(), wallet);
+                walletsByName.putIfAbsent(wallet.getWalletName().toLowerCase(Locale.ROOT), wallet);
+            }
+            for (Category category : categoryRepository.findAllByUser(user)) {
+                categoriesById.put(category.getCategoryId(), category);
+                categoriesByName.putIfAbsent(category.getName().toLowerCase(Locale.ROOT), category);
+            }
+            for (Budget budget : budgetRepository.findAllWithWalletAndCategoryByUser(user)) {
+                budgetsByWalletAndCategory.computeIfAbsent(
+                        List.of(budget.getWallet().getWalletId(), budget.getCategory().getCategoryId()), k -> new ArrayList<>()).add(budget);
+            }
+            for (SavingGoal goal : savingGoalRepository.findAllWithWalletAndCategoryByUser(user)) {
+                goalsByWalletAndCategory.computeIfAbsent(
+                        List.of(goal.getWallet().getWalletId(), goal.getCategory().getCategoryId()), k -> new ArrayList<>()).add(goal);
+            }
+
+            defaultWallet = walletId != null ? walletsById.get(walletId) : null;
+            if (walletId != null && defaultWallet == null) {
+                throw new ValidationException(Map.of("walletId", List.of("Wallet not found")));
+            }
+            defaultCategory = categoryId != null ? categoriesById.get(categoryId) : null;
+            if (categoryId != null && defaultCategory == null) {
+                throw new ValidationException(Map.of("categoryId", List.of("Category not found")));
+            }
+        }
+
+        private void add(ImportedTransactionRowDTO row) {
+            try {
+                record(row);
+            } catch (IllegalArgumentException e) {
+                errors.computeIfAbsent(row.getLocation(), k -> new ArrayList<>()).add(e.getMessage());
+                if (errors.size() >= MAX_REPORTED_ERRORS) {
+                    throw new ValidationException(errors);
+                }
+            }
+        }
+
+        private void record(ImportedTransactionRowDTO row) {
+            Wallet wallet = row.getWallet() == null ? defaultWallet
+                    : resolve(row.getWallet(), walletsById, walletsByName);
+            if (wallet == null) {
+                throw new IllegalArgumentException(row.getWallet() == null
+                        ? "Wallet is missing; add a wallet column or pass walletId"
+                        : "Unknown wallet: " + row.getWallet());
+            }
+            Category category = row.getCategory() == null ? defaultCategory
+                    : resolve(row.getCategory(), categoriesById, categoriesByName);
+            if (category == null) {
+                throw new IllegalArgumentException(row.getCategory() == null
+                        ? "Category is missing; add a category column or pass categoryId"
+                        : "Unknown category: " + row.getCategory());
+            }
+
+            LocalDateTime date = parseDate(row.getDate());
+            BigDecimal signedAmount = parseAmount(row.getAmount(), decimalSeparator);
+            String type = parseType(row.getType(), signedAmount);
+            BigDecimal amount = signedAmount.abs().setScale(2, RoundingMode.HALF_UP);
+            if (amount.signum() == 0) {
+                throw new IllegalArgumentException("Amount must not be zero");
+            }
+            String description = row.getDescription() == null || row.getDescription().isBlank()
+                    ? DEFAULT_DESCRIPTION
+                    : row.getDescription().length() > DESCRIPTION_MAX_LENGTH
+                    ? row.getDescription().substring(0, DESCRIPTION_MAX_LENGTH)
+                    : row.getDescription();
+
+            // Once a row is invalid the import will be rolled back; keep validating, stop writing
+            if (!errors.isEmpty()) {
+                return;
+            }
+
+            pendingInserts.add(new Object[]{UUID.randomUUID(), amount, description, Timestamp.valueOf(date), type,
+                    wallet.getWalletId(), category.getCategoryId()});
+            if (pendingInserts.size() >= BATCH_SIZE) {
+                flushInserts();
+            }
+
+            boolean income = TRANSACTION_TYPE_INCOME.equals(type);
+            walletDeltas.merge(wallet.getWalletId(), income ? amount : amount.negate(), BigDecimal::add);
+
+            List<UUID> pair = List.of(wallet.getWalletId(), category.getCategoryId());
+            if (income) {
+                for (SavingGoal goal : goalsByWalletAndCategory.getOrDefault(pair, List.of())) {
+                    if (!date.isBefore(goal.getStartDate()) && !date.isAfter(goal.getEndDate())) {
+                        goalDeltas.merge(goal.getSavingGoalId(), amount, BigDecimal::add);
+                    }
+                }
+            } else {
+                for (Budget budget : budgetsByWalletAndCategory.getOrDefault(pair, List.of())) {
+                    if (!date.isBefore(budget.getStartDate()) && !date.isAfter(budget.getEndDate())) {
+                        budgetDeltas.merge(budget.getBudgetId(), amount, BigDecimal::add);
+                    }
+                }
+            }
+
+            String rollupType = type.toLowerCase(Locale.ROOT);
+            dailyDeltas.merge(List.of(wallet.getWalletId(), category.getCategoryId(), date.toLocalDate(), rollupType),
+                    new DailyTotalDeltaDTO(wallet.getWalletId(), category.getCategoryId(), date.toLocalDate(), rollupType, amount, 1),
+                    (a, b) -> {
+                        a.setAmount(a.getAmount().add(b.getAmount()));
+                        a.setCount(a.getCount() + b.getCount());
+                        return a;
+                    });
+
+            firstDate = firstDate == null || date.isBefore(firstDate) ? date : firstDate;
+            lastDate = lastDate == null || date.isAfter(lastDate) ? date : lastDate;
+        }
+
+        private TransactionImportResultDTO complete() {
+            if (!errors.isEmpty()) {
+                throw new ValidationException(errors);
+            }
+            flushInserts();
+
+            walletDeltas.forEach(walletRepository::updateBalance);
+            budgetDeltas.forEach(budgetRepository::addToCurrentSpending);
+            goalDeltas.forEach(savingGoalRepository::addToSavedAmount);
+            dailyTotalService.recordTotals(dailyDeltas.values());
+            if (!walletDeltas.isEmpty()) {
+                userRepository.incrementDataVersion(user.getId());
+            }
+
+            int imported = dailyDeltas.values().stream().mapToInt(delta -> (int) delta.getCount()).sum();
+            log.info("Imported {} transactions into {} wallets for user {}", imported, walletDeltas.size(), user.getId());
+            return new TransactionImportResultDTO(imported, walletDeltas.size(), firstDate, lastDate);
+        }
+
+        private void flushInserts() {
+            if (pendingInserts.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate(INSERT_SQL, pendingInserts);
+            pendingInserts.clear();
+        }
+    }
+
+    // A UUID or a case-insensitive name among the current user's own wallets/categories
+    private static <T> T resolve(String reference, Map<UUID, T> byId, Map<String, T> byName) {
+        try {
+            return byId.get(UUID.fromString(reference));
+        } catch (IllegalArgumentException e) {
+            return byName.get(reference.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    static LocalDateTime parseDate(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Date is missing");
+        }
+        // OFX dates: yyyyMMdd[HHmmss[.XXX]][[offset:TZ]]
+        String text = value.length() >= 8 && value.substring(0, 8).chars().allMatch(Character::isDigit)
+                ? ofxDateTime(value)
+                : value;
+        for (DateTimeFormatter formatter : DATE_TIME_FORMATS) {
+            try {
+                return LocalDateTime.parse(text, formatter);
+            } catch (DateTimeParseException ignored) {
+                // try the next format
+            }
+        }
+        for (DateTimeFormatter formatter : DATE_FORMATS) {
+            try {
+                return LocalDate.parse(text, formatter).atStartOfDay();
+            } catch (DateTimeParseException ignored) {
+                // try the next format
+            }
+        }
+        throw new IllegalArgumentException("Unrecognized date: " + value);
+    }
+
+    private static String ofxDateTime(String value) {
+        String digits = value.split("[.\\[]")[0];
+        if (digits.length() >= 14) {
+            return digits.substring(0, 4) + "-" + digits.substring(4, 6) + "-" + digits.substring(6, 8)
+                    + "T" + digits.substring(8, 10) + ":" + digits.substring(10, 12) + ":" + digits.substring(12, 14);
+        }
+        return digits.substring(0, 8);
+    }
+
+    // Only the given decimal separator is accepted; the other of '.'/',' may appear as a thousands separator
+    // in complete groups of three ("1,234.50" / "1.234,50"). Anything else ("12,50" with '.') is ambiguous and rejected
+    static BigDecimal parseAmount(String value, char decimalSeparator) {
+        if (value == null) {
+            throw new IllegalArgumentException("Amount is missing");
+        }
+        char groupingSeparator = decimalSeparator == '.' ? ',' : '.';
+        String text = value.replace(" ", "").replace("\u00A0", "");
+        Matcher matcher = (decimalSeparator == '.' ? DECIMAL_POINT_AMOUNT : DECIMAL_COMMA_AMOUNT).matcher(text);
+        if (!matcher.matches()) {
+            if (text.indexOf(groupingSeparator) >= 0) {
+                throw new IllegalArgumentException("Ambiguous amount: " + value + " (decimal separator is '" + decimalSeparator + "')");
+            }
+            throw new IllegalArgumentException("Invalid amount: " + value);
+        }
+        return new BigDecimal(text.replace(String.valueOf(groupingSeparator), "").replace(decimalSeparator, '.'));
+    }
+
+    // Explicit type column, otherwise the sign of the amount (bank exports: negative = money out)
+    static String parseType(String value, BigDecimal signedAmount) {
+        if (value == null) {
+            return signedAmount.signum() < 0 ? TRANSACTION_TYPE_EXPENSE : TRANSACTION_TYPE_INCOME;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "income", "credit" -> TRANSACTION_TYPE_INCOME;
+            case "expense", "debit" -> TRANSACTION_TYPE_EXPENSE;
+            default -> throw new IllegalArgumentException("Type must be Income or Expense: " + value);
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package JavaProject.MoneyWise.services.impls;
+
+import JavaProject.MoneyWise.services.TransactionPartitionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.YearMonth;
+
+// Keeps monthly partitions of the transactions table created ahead of time (see V3 migration)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionPartitionServiceImpl implements TransactionPartitionService {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${transactions.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${transactions.partitions.cron:0 0 3 * * *}")
+    public void ensureUpcomingPartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            try {
+                ensurePartition(current.plusMonths(i));
+            } catch (Exception e) {
+                log.error("Failed to create transactions partition for {}: {}", current.plusMonths(i), e.getMessage());
+            }
+        }
+    }
+
+    // Own transaction, so a caller's long-running transaction (bulk import) does not keep the ATTACH locks
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public String ensurePartition(YearMonth month) {
+        return jdbcTemplate.queryForObject(
+                "SELECT ensure_transactions_partition(?)",
+                String.class,
+                Date.valueOf(month.atDay(1)));
+    }
+}
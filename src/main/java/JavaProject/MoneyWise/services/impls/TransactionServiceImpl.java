@@ -2,20 +2,31 @@ package JavaProject.MoneyWise.services.impls;
 
 import JavaProject.MoneyWise.helper.ApplicationMapper;
 import JavaProject.MoneyWise.helper.HelperFunctions;
+import JavaProject.MoneyWise.helper.ReportExporters;
 import JavaProject.MoneyWise.helper.ResourceNotFoundException;
+import JavaProject.MoneyWise.helper.ValidationException;
+import JavaProject.MoneyWise.models.dtos.report.ReportTable;
 import JavaProject.MoneyWise.models.dtos.transaction.*;
 import JavaProject.MoneyWise.models.entities.*;
 import JavaProject.MoneyWise.repositories.*;
+import JavaProject.MoneyWise.repositories.specifications.TransactionSpecifications;
+import JavaProject.MoneyWise.services.DailyTotalService;
+import JavaProject.MoneyWise.services.ReportExporter;
 import JavaProject.MoneyWise.services.SavingGoalService;
 import JavaProject.MoneyWise.services.TransactionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.*;
 import java.util.*;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -30,12 +41,22 @@ public class TransactionServiceImpl implements TransactionService {
     private final BudgetRepository budgetRepository;
     private final SavingGoalRepository savingGoalRepository;
     private final SavingGoalService savingGoalService;
+    private final DailyTotalService dailyTotalService;
+    private final ReportExporters reportExporters;
     private final String acceptLanguage = "en";
 
     // --- Khai báo hằng số để tránh hardcode chuỗi và dễ bảo trì ---
     private static final String TRANSACTION_TYPE_INCOME = "income";
     private static final String TRANSACTION_TYPE_EXPENSE = "expense";
 
+    // Page size bounds for the keyset-paginated listings
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_SEARCH_RESULTS = 500;
+
+    private static final List<String> EXPORT_COLUMNS = List.of(
+            "transactionId", "transactionDate", "type", "amount", "description", "walletName", "categoryName");
+
     @Override
     @Transactional(readOnly = true)
     public List<TransactionDTO> getAllTransactions() {
@@ -62,6 +83,50 @@ public class TransactionServiceImpl implements TransactionService {
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionPageDTO getTransactionsPage(String cursor, int limit) {
+        User currentUser = HelperFunctions.getCurrentUser(userRepository);
+        int pageSize = normalizePageSize(limit);
+        // Fetch one extra row to know whether another page exists
+        PageRequest request = PageRequest.of(0, pageSize + 1);
+
+        List<Transaction> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = transactionRepository.findFirstPageByWalletUser(currentUser, request);
+        } else {
+            Cursor after = decodeCursor(cursor);
+            rows = transactionRepository.findPageByWalletUserAfter(
+                    currentUser, after.date(), after.id(), request);
+        }
+        return toPage(rows, pageSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionPageDTO getTransactionsPageByWalletId(UUID walletId, String cursor, int limit) {
+        User currentUser = HelperFunctions.getCurrentUser(userRepository);
+        Wallet wallet = walletRepository.findById(walletId)
+                .orElseThrow(() -> new ResourceNotFoundException("Wallet not found"));
+
+        if (!wallet.getUser().equals(currentUser)) {
+            throw new AccessDeniedException("You do not have access to this wallet's transactions");
+        }
+
+        int pageSize = normalizePageSize(limit);
+        PageRequest request = PageRequest.of(0, pageSize + 1);
+
+        List<Transaction> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = transactionRepository.findFirstPageByWalletId(walletId, request);
+        } else {
+            Cursor after = decodeCursor(cursor);
+            rows = transactionRepository.findPageByWalletIdAfter(
+                    walletId, after.date(), after.id(), request);
+        }
+        return toPage(rows, pageSize);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public TransactionDTO getTransactionById(UUID transactionId) {
@@ -139,6 +204,12 @@ public class TransactionServiceImpl implements TransactionService {
                 : transaction.getAmount().negate();
         walletRepository.updateBalance(transaction.getWallet().getWalletId(), balanceChange);
 
+        // Update daily statistics rollup
+        dailyTotalService.recordTransaction(transaction);
+
+        // Invalidate cached reports of this user
+        userRepository.incrementDataVersion(currentUser.getId());
+
         return applicationMapper.toTransactionDTO(transaction);
     }
 
@@ -205,6 +276,9 @@ public class TransactionServiceImpl implements TransactionService {
                     ? transaction.getAmount().negate() // Undo income
                     : transaction.getAmount(); // Undo expense
             walletRepository.updateBalance(transaction.getWallet().getWalletId(), originalBalanceChange);
+
+            // Reverse daily statistics rollup
+            dailyTotalService.reverseTransaction(transaction);
         }
 
         // Step 2: Update transaction fields (excluding Type)
@@ -254,8 +328,14 @@ public class TransactionServiceImpl implements TransactionService {
 
             // Update Wallet Balance
             walletRepository.updateBalance(transaction.getWallet().getWalletId(), newBalanceChange);
+
+            // Update daily statistics rollup
+            dailyTotalService.recordTransaction(transaction);
         }
 
+        // Invalidate cached reports of this user
+        userRepository.incrementDataVersion(currentUser.getId());
+
         return applicationMapper.toTransactionDTO(updatedTransaction);
     }
 
@@ -307,92 +387,96 @@ public class TransactionServiceImpl implements TransactionService {
                 : transaction.getAmount(); // Undo expense
         walletRepository.updateBalance(transaction.getWallet().getWalletId(), balanceChange);
 
+        // Reverse daily statistics rollup
+        dailyTotalService.reverseTransaction(transaction);
+
         // Delete transaction
         transactionRepository.delete(transaction);
+
+        // Invalidate cached reports of this user
+        userRepository.incrementDataVersion(currentUser.getId());
+
         return transactionId;
     }
 
+    @Override
+    public ReportExporter getExporter(String format) {
+        return reportExporters.findByExtension(format)
+                .orElseThrow(() -> new ValidationException(Map.of("format", List.of("Unsupported export format: " + format))));
+    }
+
+    // The read-only transaction keeps the cursor open while the exporter writes; rows are unmanaged projections,
+    // so memory stays flat however long the history is
+    @Override
+    @Transactional(readOnly = true)
+    public void exportTransactions(ReportExporter exporter, OutputStream out) throws IOException {
+        User currentUser = HelperFunctions.getCurrentUser(userRepository);
+        try (Stream<TransactionExportRowDTO> rows = transactionRepository.streamExportRowsByUserId(currentUser.getId())) {
+            Stream<List<Object>> values = rows.map(row -> Arrays.asList(
+                    row.getTransactionId(), row.getTransactionDate(), row.getType(), row.getAmount(),
+                    row.getDescription(), row.getWalletName(), row.getCategoryName()));
+            exporter.export(new ReportTable(EXPORT_COLUMNS, values), out);
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public List<TransactionDetailDTO> searchTransactions(SearchTransactionsDTO filter) {
+    public TransactionSearchResultDTO searchTransactions(SearchTransactionsDTO filter) {
         log.info("Searching transactions with filters from {} to {}", filter.getStartDate(), filter.getEndDate());
 
         User currentUser = HelperFunctions.getCurrentUser(userRepository);
-        LocalDateTime startDateTime = filter.getStartDate() != null ? filter.getStartDate().atStartOfDay() : null;
-        LocalDateTime endDateTime = filter.getEndDate() != null ? filter.getEndDate().atTime(LocalTime.MAX) : null;
-
-        List<Transaction> transactions = transactionRepository
-                .findAllByWalletUserAndCategoryUser(currentUser)
-                .stream()
-                .filter(t -> {
-                    if (startDateTime != null && endDateTime != null)
-                        return !t.getTransactionDate().isBefore(startDateTime)
-                                && !t.getTransactionDate().isAfter(endDateTime);
-                    else if (startDateTime != null)
-                        return !t.getTransactionDate().isBefore(startDateTime);
-                    else if (endDateTime != null)
-                        return !t.getTransactionDate().isAfter(endDateTime);
-                    else
-                        return true;
-                })
-                .filter(t -> filter.getType() == null ||
-                        t.getType().equalsIgnoreCase(filter.getType()))
-                .filter(t -> filter.getCategoryName() == null ||
-                        t.getCategory().getName().equalsIgnoreCase(filter.getCategoryName()))
-                .filter(t -> filter.getWalletName() == null ||
-                        t.getWallet().getWalletName().equalsIgnoreCase(filter.getWalletName()))
-                .filter(t -> {
-                    String amountRange = filter.getAmountRange();
-                    if (amountRange == null)
-                        return true;
-                    try {
-                        BigDecimal amount = t.getAmount().abs();
-                        if (amountRange.endsWith("+")) {
-                            BigDecimal min = new BigDecimal(amountRange.replace("+", "").trim());
-                            return amount.compareTo(min) >= 0;
-                        } else if (amountRange.contains("-")) {
-                            String[] parts = amountRange.split("-");
-                            BigDecimal min = new BigDecimal(parts[0].trim());
-                            BigDecimal max = new BigDecimal(parts[1].trim());
-                            return amount.compareTo(min) >= 0 && amount.compareTo(max) <= 0;
-                        } else {
-                            return true;
-                        }
-                    } catch (Exception e) {
-                        return true;
-                    }
-                })
-                .filter(t -> filter.getKeywords() == null ||
-                        (t.getDescription() != null
-                                && t.getDescription().toLowerCase().contains(filter.getKeywords().toLowerCase())))
-                .filter(t -> {
-                    if (filter.getTimeRange() == null || !filter.getTimeRange().contains("-"))
-                        return true;
-                    try {
-                        String[] times = filter.getTimeRange().split("-");
-                        LocalTime start = LocalTime.parse(times[0]);
-                        LocalTime end = LocalTime.parse(times[1]);
-                        LocalTime txnTime = t.getTransactionDate().toLocalTime();
-                        return !txnTime.isBefore(start) && !txnTime.isAfter(end);
-                    } catch (Exception e) {
-                        return true;
-                    }
-                })
-                .filter(t -> {
-                    if (filter.getDayOfWeek() == null)
-                        return true;
-                    try {
-                        DayOfWeek expected = DayOfWeek.valueOf(filter.getDayOfWeek().toUpperCase());
-                        return t.getTransactionDate().getDayOfWeek() == expected;
-                    } catch (Exception e) {
-                        return true;
-                    }
-                })
-                .sorted(Comparator.comparing(Transaction::getTransactionDate).reversed())
+        int limit = filter.getLimit() != null ? filter.getLimit() : MAX_SEARCH_RESULTS;
+
+        // All filters, ordering (see TransactionSpecifications) and the row limit are applied by the database;
+        // one extra row tells whether the limit cut the result
+        List<Transaction> rows = transactionRepository.findBy(
+                TransactionSpecifications.matching(currentUser, filter),
+                q -> q.limit(limit + 1).all());
+        boolean truncated = rows.size() > limit;
+        List<TransactionDetailDTO> items = (truncated ? rows.subList(0, limit) : rows).stream()
+                .map(applicationMapper::toTransactionDetailDTO)
                 .toList();
+        return new TransactionSearchResultDTO(items, truncated);
+    }
 
-        return transactions.stream()
-                .map(applicationMapper::toTransactionDetailDTO)
+    private int normalizePageSize(int limit) {
+        if (limit <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    private TransactionPageDTO toPage(List<Transaction> rows, int pageSize) {
+        boolean hasMore = rows.size() > pageSize;
+        List<Transaction> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            Transaction last = page.get(page.size() - 1);
+            nextCursor = encodeCursor(new Cursor(last.getTransactionDate(), last.getTransactionId()));
+        }
+        List<TransactionDTO> items = page.stream()
+                .map(applicationMapper::toTransactionDTO)
                 .toList();
+        return new TransactionPageDTO(items, nextCursor, hasMore);
+    }
+
+    // Keyset position: (transactionDate, transactionId) of the last row on a page
+    record Cursor(LocalDateTime date, UUID id) {
+    }
+
+    // Cursor = URL-safe Base64 of "<transactionDate>|<transactionId>" of the last row on the page
+    static String encodeCursor(Cursor cursor) {
+        String raw = cursor.date() + "|" + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Cursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            return new Cursor(LocalDateTime.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (RuntimeException e) {
+            throw new ValidationException(Map.of("cursor", List.of("Invalid pagination cursor")));
+        }
     }
 }
\ No newline at end of file
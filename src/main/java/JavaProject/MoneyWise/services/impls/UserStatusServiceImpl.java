@@ -0,0 +1,45 @@
+package JavaProject.MoneyWise.services.impls;
+
+import JavaProject.MoneyWise.repositories.UserRepository;
+import JavaProject.MoneyWise.services.UserStatusService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Short-TTL cache of the users.enabled flag, so stateless authentication can still lock out
+// disabled or deleted accounts without a query per request
+@Service
+@RequiredArgsConstructor
+public class UserStatusServiceImpl implements UserStatusService {
+
+    private final UserRepository userRepository;
+    private final Map<UUID, CachedStatus> statuses = new ConcurrentHashMap<>();
+
+    @Value("${jwt.user-status-cache-ttl:60s}")
+    private Duration cacheTtl;
+
+    private record CachedStatus(boolean enabled, long expiresAt) {
+    }
+
+    @Override
+    public boolean isEnabled(UUID userId) {
+        long now = System.currentTimeMillis();
+        CachedStatus cached = statuses.get(userId);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.enabled();
+        }
+
+        // A deleted user counts as disabled
+        boolean enabled = userRepository.findEnabledById(userId).orElse(false);
+        statuses.put(userId, new CachedStatus(enabled, now + cacheTtl.toMillis()));
+        if (statuses.size() > 10_000) {
+            statuses.values().removeIf(status -> status.expiresAt() <= now);
+        }
+        return enabled;
+    }
+}
@@ -99,6 +99,8 @@ public class WalletServiceImpl implements WalletService {
         wallet.setBalance(model.getBalance());
 
         walletRepository.save(wallet);
+        // Its name appears in cached reports
+        userRepository.incrementDataVersion(wallet.getUser().getId());
         return applicationMapper.toWalletDTO(wallet);
     }
 
@@ -108,6 +110,7 @@ public class WalletServiceImpl implements WalletService {
         Wallet wallet = walletRepository.findByWalletIdAndUser(walletId, currentUser)
                 .orElseThrow(() -> new ResourceNotFoundException("Wallet not found"));
         walletRepository.delete(wallet);
+        userRepository.incrementDataVersion(currentUser.getId());
         return walletId;
     }
 }
@@ -0,0 +1,102 @@
+package JavaProject.MoneyWise.services.impls;
+
+import JavaProject.MoneyWise.models.dtos.report.ReportTable;
+import JavaProject.MoneyWise.services.ReportExporter;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+
+// Streaming workbook: only the last ROW_WINDOW rows stay in memory, older rows are flushed to a temp file.
+// Past the sheet row limit (full transaction history) rows continue on "Report (2)", "Report (3)", ... with the header repeated.
+@Component
+public class XlsxReportExporter implements ReportExporter {
+
+    public static final MediaType XLSX = MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+    private static final int ROW_WINDOW = 100;
+    private static final int MAX_SHEET_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows();
+    private static final String SHEET_NAME = "Report";
+
+    @Override
+    public MediaType getMediaType() {
+        return XLSX;
+    }
+
+    @Override
+    public String getFileExtension() {
+        return "xlsx";
+    }
+
+    @Override
+    public void export(ReportTable table, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_WINDOW);
+        try {
+            workbook.setCompressTempFiles(true);
+
+            CellStyle headerStyle = workbook.createCellStyle();
+            Font bold = workbook.createFont();
+            bold.setBold(true);
+            headerStyle.setFont(bold);
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss"));
+
+            List<String> columns = table.getColumns();
+            Sheet sheet = createSheet(workbook, SHEET_NAME, columns, headerStyle);
+            int rowIndex = 1;
+            Iterator<List<Object>> rows = table.getRows().iterator();
+            while (rows.hasNext()) {
+                if (rowIndex == MAX_SHEET_ROWS) {
+                    sheet = createSheet(workbook, SHEET_NAME + " (" + (workbook.getNumberOfSheets() + 1) + ")", columns, headerStyle);
+                    rowIndex = 1;
+                }
+                List<Object> values = rows.next();
+                Row row = sheet.createRow(rowIndex++);
+                for (int i = 0; i < values.size(); i++) {
+                    setValue(row.createCell(i), values.get(i), dateStyle);
+                }
+            }
+            workbook.write(out);
+        } finally {
+            workbook.close();
+            workbook.dispose();
+        }
+    }
+
+    private Sheet createSheet(Workbook workbook, String name, List<String> columns, CellStyle headerStyle) {
+        Sheet sheet = workbook.createSheet(name);
+        Row header = sheet.createRow(0);
+        for (int i = 0; i < columns.size(); i++) {
+            Cell cell = header.createCell(i);
+            cell.setCellValue(columns.get(i));
+            cell.setCellStyle(headerStyle);
+        }
+        return sheet;
+    }
+
+    private void setValue(Cell cell, Object value, CellStyle dateStyle) {
+        if (value == null) {
+            cell.setBlank();
+        } else if (value instanceof BigDecimal number) {
+            cell.setCellValue(number.doubleValue());
+        } else if (value instanceof Number number) {
+            cell.setCellValue(number.doubleValue());
+        } else if (value instanceof LocalDateTime dateTime) {
+            cell.setCellValue(dateTime);
+            cell.setCellStyle(dateStyle);
+        } else if (value instanceof LocalDate date) {
+            cell.setCellValue(date);
+            cell.setCellStyle(dateStyle);
+        } else {
+            cell.setCellValue(value.toString());
+        }
+    }
+}
@@ -0,0 +1,23 @@
+-- Rollup of transactions per (wallet, category, day, type) behind the statistics and reports.
+-- Not part of the baseline: databases baselined at version 1 were created before the rollup existed.
+-- IF NOT EXISTS covers development databases where ddl-auto=update already created it.
+
+CREATE TABLE IF NOT EXISTS daily_wallet_category_totals (
+    total_id          uuid           NOT NULL PRIMARY KEY,
+    wallet_id         uuid           NOT NULL REFERENCES wallets (wallet_id) ON DELETE CASCADE,
+    category_id       uuid           NOT NULL REFERENCES categories (category_id) ON DELETE CASCADE,
+    day               date           NOT NULL,
+    type              varchar(255)   NOT NULL,
+    total_amount      numeric(38, 2) NOT NULL,
+    transaction_count bigint         NOT NULL,
+    UNIQUE (wallet_id, category_id, day, type)
+);
+
+-- Backfill from existing transactions so totals are right from the first deploy;
+-- POST /api/Admin/daily-totals/rebuild is only needed for repairs
+INSERT INTO daily_wallet_category_totals (total_id, wallet_id, category_id, day, type, total_amount, transaction_count)
+SELECT gen_random_uuid(), t.wallet_id, t.category_id, CAST(t.transaction_date AS date), lower(t.type), SUM(t.amount), COUNT(*)
+FROM transactions t
+WHERE t.type IS NOT NULL
+GROUP BY t.wallet_id, t.category_id, CAST(t.transaction_date AS date), lower(t.type)
+ON CONFLICT (wallet_id, category_id, day, type) DO NOTHING;
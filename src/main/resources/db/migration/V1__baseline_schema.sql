@@ -0,0 +1,105 @@
+-- Baseline schema, equivalent to what spring.jpa.hibernate.ddl-auto=update generated from the entities.
+-- Existing databases are baselined at version 1 (spring.flyway.baseline-on-migrate) and skip this script.
+
+CREATE TABLE users (
+    id          uuid         NOT NULL PRIMARY KEY,
+    first_name  varchar(255) NOT NULL,
+    last_name   varchar(255) NOT NULL,
+    username    varchar(255) NOT NULL UNIQUE,
+    email       varchar(255) NOT NULL UNIQUE,
+    password    varchar(60)  NOT NULL,
+    avatar_url  varchar(255),
+    enabled     boolean      NOT NULL,
+    created_at  timestamp(6) NOT NULL,
+    updated_at  timestamp(6)
+);
+
+CREATE TABLE user_roles (
+    user_id uuid         NOT NULL REFERENCES users (id),
+    role    varchar(255) NOT NULL,
+    PRIMARY KEY (user_id, role)
+);
+
+CREATE TABLE wallets (
+    wallet_id   uuid          NOT NULL PRIMARY KEY,
+    wallet_name varchar(255)  NOT NULL,
+    balance     numeric(38, 2) NOT NULL,
+    user_id     uuid          NOT NULL REFERENCES users (id)
+);
+
+CREATE TABLE categories (
+    category_id uuid         NOT NULL PRIMARY KEY,
+    name        varchar(255) NOT NULL,
+    created_at  timestamp(6) NOT NULL,
+    user_id     uuid         NOT NULL REFERENCES users (id)
+);
+
+CREATE TABLE transactions (
+    transaction_id   uuid           NOT NULL PRIMARY KEY,
+    amount           numeric(38, 2) NOT NULL,
+    description      varchar(255),
+    transaction_date timestamp(6)   NOT NULL,
+    type             varchar(255),
+    wallet_id        uuid           NOT NULL REFERENCES wallets (wallet_id),
+    category_id      uuid           NOT NULL REFERENCES categories (category_id)
+);
+
+CREATE TABLE budgets (
+    budget_id        uuid           NOT NULL PRIMARY KEY,
+    category_id      uuid           NOT NULL REFERENCES categories (category_id),
+    wallet_id        uuid           NOT NULL REFERENCES wallets (wallet_id),
+    description      varchar(255),
+    limit_amount     numeric(38, 2) NOT NULL,
+    current_spending numeric(38, 2) NOT NULL,
+    start_date       timestamp(6)   NOT NULL,
+    end_date         timestamp(6)   NOT NULL,
+    created_at       timestamp(6)   NOT NULL
+);
+
+CREATE TABLE saving_goals (
+    saving_goal_id uuid           NOT NULL PRIMARY KEY,
+    category_id    uuid           NOT NULL REFERENCES categories (category_id),
+    wallet_id      uuid           NOT NULL REFERENCES wallets (wallet_id),
+    description    varchar(255),
+    target_amount  numeric(38, 2) NOT NULL,
+    saved_amount   numeric(38, 2) NOT NULL,
+    start_date     timestamp(6)   NOT NULL,
+    end_date       timestamp(6)   NOT NULL,
+    created_at     timestamp(6)   NOT NULL
+);
+
+CREATE TABLE messages (
+    message_id  uuid         NOT NULL PRIMARY KEY,
+    content     varchar(255) NOT NULL,
+    sent_at     timestamp(6) NOT NULL,
+    sender_id   uuid         NOT NULL REFERENCES users (id),
+    receiver_id uuid         NOT NULL REFERENCES users (id)
+);
+
+CREATE TABLE user_friends (
+    user_id      uuid         NOT NULL REFERENCES users (id),
+    friend_id    uuid         NOT NULL REFERENCES users (id),
+    is_accepted  boolean      NOT NULL,
+    requested_at timestamp(6) NOT NULL,
+    accepted_at  timestamp(6),
+    PRIMARY KEY (user_id, friend_id)
+);
+
+CREATE TABLE groups (
+    group_id    uuid         NOT NULL PRIMARY KEY,
+    name        varchar(255) NOT NULL,
+    description varchar(255),
+    image_url   varchar(255),
+    created_at  timestamp(6) NOT NULL,
+    creator_id  uuid         NOT NULL REFERENCES users (id)
+);
+
+CREATE TABLE group_members (
+    id             uuid         NOT NULL PRIMARY KEY,
+    joined_at      timestamp(6) NOT NULL,
+    last_read_time timestamp(6),
+    role           varchar(255) NOT NULL CHECK (role IN ('MEMBER', 'COLLABORATOR', 'ADMIN')),
+    group_id       uuid         NOT NULL REFERENCES groups (group_id),
+    user_id        uuid         NOT NULL REFERENCES users (id),
+    UNIQUE (group_id, user_id)
+);
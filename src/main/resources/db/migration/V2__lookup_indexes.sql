@@ -0,0 +1,13 @@
+-- Secondary indexes for the statistics, budget and saving-goal lookups.
+-- Built CONCURRENTLY (Flyway runs this script outside a transaction) so existing tables stay writable.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transactions_wallet_date ON transactions (wallet_id, transaction_date);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transactions_category ON transactions (category_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_wallets_user ON wallets (user_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_categories_user ON categories (user_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_budgets_category_wallet_period ON budgets (category_id, wallet_id, start_date, end_date);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_budgets_wallet_period ON budgets (wallet_id, start_date, end_date);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_saving_goals_category_wallet_period ON saving_goals (category_id, wallet_id, start_date, end_date);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_saving_goals_wallet_period ON saving_goals (wallet_id, start_date, end_date);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_group_members_user ON group_members (user_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_daily_totals_wallet_day ON daily_wallet_category_totals (wallet_id, day);
@@ -0,0 +1,72 @@
+-- Converts transactions into a table range-partitioned by month on transaction_date.
+-- The partition key has to be part of the primary key, so the key becomes (transaction_id, transaction_date).
+-- Rows outside every monthly partition land in transactions_default until their month is created.
+
+ALTER TABLE transactions RENAME TO transactions_unpartitioned;
+-- The primary key index name would clash with the new table's key
+ALTER TABLE transactions_unpartitioned RENAME CONSTRAINT transactions_pkey TO transactions_unpartitioned_pkey;
+
+CREATE TABLE transactions (
+    transaction_id   uuid           NOT NULL,
+    amount           numeric(38, 2) NOT NULL,
+    description      varchar(255),
+    transaction_date timestamp(6)   NOT NULL,
+    type             varchar(255),
+    wallet_id        uuid           NOT NULL REFERENCES wallets (wallet_id),
+    category_id      uuid           NOT NULL REFERENCES categories (category_id),
+    PRIMARY KEY (transaction_id, transaction_date)
+) PARTITION BY RANGE (transaction_date);
+
+CREATE TABLE transactions_default PARTITION OF transactions DEFAULT;
+
+-- Creates the partition holding the month that starts at month_start (idempotent) and returns its name.
+-- Rows of that month already sitting in the default partition are moved into the new partition first,
+-- otherwise PostgreSQL refuses to attach it.
+CREATE OR REPLACE FUNCTION ensure_transactions_partition(month_start date) RETURNS text AS $$
+DECLARE
+    range_start    date := date_trunc('month', month_start)::date;
+    range_end      date := (date_trunc('month', month_start) + interval '1 month')::date;
+    partition_name text := 'transactions_' || to_char(range_start, 'YYYY_MM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE transactions INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+    EXECUTE format(
+        'WITH moved AS (DELETE FROM transactions_default WHERE transaction_date >= %L AND transaction_date < %L RETURNING *) '
+        'INSERT INTO %I SELECT * FROM moved',
+        range_start, range_end, partition_name);
+    EXECUTE format('ALTER TABLE transactions ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+        partition_name, range_start, range_end);
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partitions for every month that already has data, plus the next three months
+DO $$
+DECLARE
+    first_month date;
+    last_month  date;
+    month_start date;
+BEGIN
+    SELECT date_trunc('month', min(transaction_date))::date INTO first_month FROM transactions_unpartitioned;
+    first_month := least(coalesce(first_month, current_date), current_date);
+    last_month := (date_trunc('month', current_date) + interval '3 months')::date;
+    month_start := date_trunc('month', first_month)::date;
+    WHILE month_start <= last_month LOOP
+        PERFORM ensure_transactions_partition(month_start);
+        month_start := (month_start + interval '1 month')::date;
+    END LOOP;
+END;
+$$;
+
+INSERT INTO transactions (transaction_id, amount, description, transaction_date, type, wallet_id, category_id)
+SELECT transaction_id, amount, description, transaction_date, type, wallet_id, category_id
+FROM transactions_unpartitioned;
+
+DROP TABLE transactions_unpartitioned;
+
+-- Partitioned indexes: created on the parent and propagated to every current and future partition
+CREATE INDEX idx_transactions_wallet_date ON transactions (wallet_id, transaction_date);
+CREATE INDEX idx_transactions_category ON transactions (category_id);
@@ -0,0 +1,25 @@
+-- Accent-insensitive search over transaction descriptions (Vietnamese text is stored with diacritics).
+-- unaccent() is only STABLE, so it is wrapped in an IMMUTABLE function that indexes can use.
+CREATE EXTENSION IF NOT EXISTS unaccent;
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE OR REPLACE FUNCTION immutable_unaccent(value text) RETURNS text AS $$
+    SELECT public.unaccent('public.unaccent'::regdictionary, value)
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT;
+
+-- Normalised document and query used by the full-text search mode; the index below is built on the same expression
+CREATE OR REPLACE FUNCTION transaction_search_vector(description text) RETURNS tsvector AS $$
+    SELECT to_tsvector('simple'::regconfig, immutable_unaccent(lower(coalesce(description, ''))))
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE;
+
+CREATE OR REPLACE FUNCTION transaction_search_query(query text) RETURNS tsquery AS $$
+    SELECT to_tsquery('simple'::regconfig, immutable_unaccent(lower(query)))
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT;
+
+-- Full-text (ranked, prefix) mode
+CREATE INDEX idx_transactions_description_fts
+    ON transactions USING gin (transaction_search_vector(description));
+
+-- Substring ("contains") mode: LIKE '%...%' on the unaccented, lower-cased description
+CREATE INDEX idx_transactions_description_trgm
+    ON transactions USING gin (immutable_unaccent(lower(description)) gin_trgm_ops);
@@ -0,0 +1,9 @@
+-- Last fetched exchange rate per currency pair (see ExchangeRateServiceImpl)
+CREATE TABLE exchange_rates (
+    rate_id        uuid           NOT NULL PRIMARY KEY,
+    base_currency  varchar(3)     NOT NULL,
+    quote_currency varchar(3)     NOT NULL,
+    rate           numeric(38, 10) NOT NULL,
+    fetched_at     timestamp(6)   NOT NULL,
+    UNIQUE (base_currency, quote_currency)
+);
@@ -0,0 +1,2 @@
+-- Incremented on every change to a user's transactions; report output is cached per (user, data_version)
+ALTER TABLE users ADD COLUMN data_version bigint NOT NULL DEFAULT 0;
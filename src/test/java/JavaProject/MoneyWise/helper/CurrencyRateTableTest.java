@@ -0,0 +1,92 @@
+package JavaProject.MoneyWise.helper;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CurrencyRateTableTest {
+
+    private static final LocalDateTime FETCHED_AT = LocalDateTime.of(2024, 5, 1, 8, 0);
+
+    private static CurrencyRateTable table() {
+        Map<String, BigDecimal> rates = new HashMap<>();
+        rates.put("vnd", new BigDecimal("25000"));
+        rates.put("EUR", new BigDecimal("0.8"));
+        rates.put("btc", new BigDecimal("0.00001"));
+        rates.put("1inch", new BigDecimal("3"));
+        rates.put("JPY", BigDecimal.ZERO);
+        rates.put("GBP", null);
+        return CurrencyRateTable.of(rates, FETCHED_AT);
+    }
+
+    @Test
+    void indexOfPacksThreeLettersCaseInsensitively() {
+        assertThat(CurrencyRateTable.indexOf("AAA")).isZero();
+        assertThat(CurrencyRateTable.indexOf("ZZZ")).isEqualTo(26 * 26 * 26 - 1);
+        assertThat(CurrencyRateTable.indexOf("vnd")).isEqualTo(CurrencyRateTable.indexOf("VND"));
+    }
+
+    @Test
+    void indexOfRejectsAnythingButThreeAsciiLetters() {
+        assertThat(CurrencyRateTable.indexOf(null)).isEqualTo(-1);
+        assertThat(CurrencyRateTable.indexOf("US")).isEqualTo(-1);
+        assertThat(CurrencyRateTable.indexOf("USDT")).isEqualTo(-1);
+        assertThat(CurrencyRateTable.indexOf("U1D")).isEqualTo(-1);
+        assertThat(CurrencyRateTable.indexOf("\u00C4\u00D6\u00DC")).isEqualTo(-1);
+    }
+
+    @Test
+    void ofSkipsInvalidCodesAndNonPositiveRates() {
+        CurrencyRateTable table = table();
+
+        assertThat(table.supports("VND")).isTrue();
+        assertThat(table.supports("btc")).isTrue();
+        assertThat(table.supports("JPY")).isFalse();
+        assertThat(table.supports("GBP")).isFalse();
+        assertThat(table.supports("1inch")).isFalse();
+        assertThat(table.supports("CHF")).isFalse();
+        assertThat(table.getFetchedAt()).isEqualTo(FETCHED_AT);
+    }
+
+    @Test
+    void pivotCurrencyIsAlwaysOne() {
+        CurrencyRateTable table = CurrencyRateTable.of(Map.of("USD", new BigDecimal("2")), FETCHED_AT);
+
+        assertThat(table.rate(CurrencyRateTable.PIVOT_CURRENCY)).isEqualByComparingTo(BigDecimal.ONE);
+    }
+
+    @Test
+    void rateThrowsForUnsupportedCurrency() {
+        CurrencyRateTable table = table();
+
+        assertThatThrownBy(() -> table.rate("CHF")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> table.rate("XX")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void factorGoesThroughThePivot() {
+        CurrencyRateTable table = table();
+
+        assertThat(table.factor("USD", "VND")).isEqualByComparingTo("25000");
+        assertThat(table.factor("EUR", "VND")).isEqualByComparingTo("31250");
+        assertThat(table.factor("VND", "EUR")).isEqualByComparingTo("0.000032");
+        assertThat(table.factor("vnd", "VND")).isEqualByComparingTo(BigDecimal.ONE);
+    }
+
+    @Test
+    void convertRoundsHalfUpToScale() {
+        CurrencyRateTable table = table();
+
+        assertThat(table.convert(new BigDecimal("10.00"), "EUR", "VND", 0)).isEqualTo(new BigDecimal("312500"));
+        assertThat(table.convert(new BigDecimal("100000"), "VND", "USD", 2)).isEqualTo(new BigDecimal("4.00"));
+        assertThat(table.convert(new BigDecimal("15625"), "VND", "EUR", 2)).isEqualTo(new BigDecimal("0.50"));
+        assertThat(table.convert(new BigDecimal("1"), "VND", "USD", 4)).isEqualTo(new BigDecimal("0.0000"));
+        assertThat(table.convert(new BigDecimal("12500"), "VND", "USD", 1)).isEqualTo(new BigDecimal("0.5"));
+    }
+}
@@ -0,0 +1,45 @@
+package JavaProject.MoneyWise.helper;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.text.NumberFormat;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FormatterReuseTest {
+
+    @Test
+    void numberFormatsAreReusedPerThread() {
+        NumberFormat vnd = CurrencyConverter.numberFormatFor("VND");
+
+        assertThat(CurrencyConverter.numberFormatFor("VND")).isSameAs(vnd);
+        assertThat(CurrencyConverter.numberFormatFor("USD")).isSameAs(CurrencyConverter.numberFormatFor("USD"));
+        assertThat(CurrencyConverter.numberFormatFor("EUR")).isSameAs(CurrencyConverter.numberFormatFor("JPY"));
+        // NumberFormat is not thread-safe, so another thread gets its own copy
+        assertThat(CompletableFuture.supplyAsync(() -> CurrencyConverter.numberFormatFor("VND")).join()).isNotSameAs(vnd);
+    }
+
+    @Test
+    void formatAmountToDisplayUsesThePrebuiltFormats() {
+        CurrencyConverter converter = new CurrencyConverter();
+
+        assertThat(converter.formatAmountToDisplay(new BigDecimal("1234567.4"), "vnd")).isEqualTo("1.234.567đ");
+        assertThat(converter.formatAmountToDisplay(new BigDecimal("1234.5"), "USD")).isEqualTo("$1,234.50");
+        assertThat(converter.formatAmountToDisplay(null, "USD")).isEqualTo("0.00");
+    }
+
+    @Test
+    void dateTimeFormattersAreSharedPerLanguageAndTimeFlag() {
+        DateTimeFormatter withTime = DateTimeFormatterUtil.formatterFor("en-US", true);
+
+        assertThat(DateTimeFormatterUtil.formatterFor("en-US", true)).isSameAs(withTime);
+        assertThat(DateTimeFormatterUtil.formatterFor("en-US", false)).isNotSameAs(withTime);
+        assertThat(DateTimeFormatterUtil.formatterFor(null, false)).isSameAs(DateTimeFormatterUtil.formatterFor(null, false));
+        assertThat(DateTimeFormatterUtil.formatDateTimeWithLanguage(LocalDateTime.of(2025, 6, 30, 7, 33), "en-US", true))
+                .isEqualTo("7:33 AM, June 30, 2025");
+    }
+}
@@ -0,0 +1,62 @@
+package JavaProject.MoneyWise.helper;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.text.NumberFormat;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// Formatting hot paths against the per-call construction they replaced. Run main() (or the JMH runner with
+// -prof gc) and compare gc.alloc.rate.norm: the cached variants allocate only the result string.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormattingBenchmark {
+
+    private final CurrencyConverter currencyConverter = new CurrencyConverter();
+    private final BigDecimal amount = new BigDecimal("1234567.89");
+    private final LocalDateTime dateTime = LocalDateTime.of(2025, 6, 30, 7, 33);
+
+    @Benchmark
+    public String formatAmountToDisplay() {
+        return currencyConverter.formatAmountToDisplay(amount, "VND");
+    }
+
+    // What formatAmountToDisplay did before the formats were pre-built
+    @Benchmark
+    public String formatAmountWithNewNumberFormat() {
+        NumberFormat format = NumberFormat.getInstance(Locale.of("vi", "VN"));
+        format.setMaximumFractionDigits(0);
+        format.setMinimumFractionDigits(0);
+        return format.format(amount) + "đ";
+    }
+
+    @Benchmark
+    public String formatDateTimeWithLanguage() {
+        return DateTimeFormatterUtil.formatDateTimeWithLanguage(dateTime, "en-US", true);
+    }
+
+    // What formatDateTimeWithLanguage did before the formatters were cached
+    @Benchmark
+    public String formatDateTimeWithNewFormatter() {
+        Locale locale = Locale.forLanguageTag("en-US");
+        return DateTimeFormatter.ofPattern("h:mm a, MMMM d, yyyy", locale).format(dateTime);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FormattingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
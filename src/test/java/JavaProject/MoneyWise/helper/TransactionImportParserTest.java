@@ -0,0 +1,130 @@
+package JavaProject.MoneyWise.helper;
+
+import JavaProject.MoneyWise.models.dtos.transaction.ImportedTransactionRowDTO;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionImportParserTest {
+
+    private static List<ImportedTransactionRowDTO> csv(String content) throws IOException {
+        List<ImportedTransactionRowDTO> rows = new ArrayList<>();
+        TransactionImportParser.parseCsv(new StringReader(content), rows::add);
+        return rows;
+    }
+
+    private static List<ImportedTransactionRowDTO> ofx(String content) throws IOException {
+        List<ImportedTransactionRowDTO> rows = new ArrayList<>();
+        TransactionImportParser.parseOfx(new StringReader(content), rows::add);
+        return rows;
+    }
+
+    @Test
+    void csvMapsHeaderAliasesAndSkipsBlankLines() throws IOException {
+        List<ImportedTransactionRowDTO> rows = csv("\uFEFFTransaction_Date,Amount,Memo,Wallet Name\n"
+                + "2024-01-05,-12.50,Coffee,Cash\n"
+                + "\n"
+                + "2024-01-06,100,,Bank\n");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).getLocation()).isEqualTo("line 2");
+        assertThat(rows.get(0).getDate()).isEqualTo("2024-01-05");
+        assertThat(rows.get(0).getAmount()).isEqualTo("-12.50");
+        assertThat(rows.get(0).getDescription()).isEqualTo("Coffee");
+        assertThat(rows.get(0).getWallet()).isEqualTo("Cash");
+        assertThat(rows.get(0).getCategory()).isNull();
+        assertThat(rows.get(1).getLocation()).isEqualTo("line 4");
+        assertThat(rows.get(1).getDescription()).isNull();
+    }
+
+    @Test
+    void csvHandlesQuotedDelimitersAndEscapedQuotes() throws IOException {
+        List<ImportedTransactionRowDTO> rows = csv("date,amount,description\n"
+                + "2024-01-05,\"1,234.50\",\"Dinner, \"\"Pho 24\"\"\"\n");
+
+        assertThat(rows.get(0).getAmount()).isEqualTo("1,234.50");
+        assertThat(rows.get(0).getDescription()).isEqualTo("Dinner, \"Pho 24\"");
+    }
+
+    @Test
+    void csvQuotedFieldMaySpanLines() throws IOException {
+        List<ImportedTransactionRowDTO> rows = csv("date,amount,description\n"
+                + "2024-01-05,10,\"first\n"
+                + "second \"\"quoted\"\"\n"
+                + "third\"\n"
+                + "2024-01-06,20,next\n");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).getDescription()).isEqualTo("first\nsecond \"quoted\"\nthird");
+        assertThat(rows.get(1).getLocation()).isEqualTo("line 5");
+        assertThat(rows.get(1).getDescription()).isEqualTo("next");
+    }
+
+    @Test
+    void csvDetectsSemicolonDelimiter() throws IOException {
+        assertThat(TransactionImportParser.csvDelimiter("date;amount;description")).isEqualTo(';');
+        assertThat(TransactionImportParser.csvDelimiter("date,amount,description")).isEqualTo(',');
+        assertThat(TransactionImportParser.csvDelimiter("date,amount,\"a;b\"")).isEqualTo(',');
+
+        List<ImportedTransactionRowDTO> rows = csv("date;amount;description\n05/01/2024;12,50;Coffee, large\n");
+
+        assertThat(rows.get(0).getAmount()).isEqualTo("12,50");
+        assertThat(rows.get(0).getDescription()).isEqualTo("Coffee, large");
+    }
+
+    @Test
+    void csvRequiresDateAndAmountColumns() {
+        assertThatThrownBy(() -> csv("date,description\n2024-01-05,Coffee\n"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void csvRejectsUnclosedQuoteOnceRecordExceedsLimit() {
+        StringBuilder content = new StringBuilder("date,amount,description\n2024-01-05,10,ok\n2024-01-06,10,\"never closed\n");
+        String filler = "x".repeat(1000) + "\n";
+        while (content.length() < 2 * TransactionImportParser.MAX_RECORD_LENGTH) {
+            content.append(filler);
+        }
+
+        assertThatThrownBy(() -> csv(content.toString()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("line 3");
+    }
+
+    @Test
+    void ofxSgmlWithoutClosingTags() throws IOException {
+        List<ImportedTransactionRowDTO> rows = ofx("OFXHEADER:100\nDATA:OFXSGML\n\n<OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS>\n"
+                + "<BANKTRANLIST>\n"
+                + "<STMTTRN>\n<TRNTYPE>DEBIT\n<DTPOSTED>20240105120000[+7:ICT]\n<TRNAMT>-12.50\n<NAME>Coffee shop\n</STMTTRN>\n"
+                + "<STMTTRN>\n<TRNTYPE>CREDIT\n<DTPOSTED>20240106\n<TRNAMT>100.00\n<NAME>Salary\n<MEMO>January &amp; bonus\n</STMTTRN>\n"
+                + "</BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>\n");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).getLocation()).isEqualTo("transaction 1");
+        assertThat(rows.get(0).getDate()).isEqualTo("20240105120000[+7:ICT]");
+        assertThat(rows.get(0).getAmount()).isEqualTo("-12.50");
+        assertThat(rows.get(0).getDescription()).isEqualTo("Coffee shop");
+        assertThat(rows.get(0).getType()).isNull();
+        assertThat(rows.get(1).getLocation()).isEqualTo("transaction 2");
+        assertThat(rows.get(1).getDescription()).isEqualTo("January & bonus");
+    }
+
+    @Test
+    void ofxXmlWithClosingTags() throws IOException {
+        List<ImportedTransactionRowDTO> rows = ofx("<?xml version=\"1.0\"?>\n<?OFX OFXHEADER=\"200\"?>\n<OFX><BANKTRANLIST>"
+                + "<STMTTRN><TRNTYPE>DEBIT</TRNTYPE><DTPOSTED>20240105</DTPOSTED><TRNAMT>-5.00</TRNAMT>"
+                + "<NAME>Bus</NAME><MEMO></MEMO></STMTTRN>"
+                + "</BANKTRANLIST></OFX>");
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getDate()).isEqualTo("20240105");
+        assertThat(rows.get(0).getAmount()).isEqualTo("-5.00");
+        assertThat(rows.get(0).getDescription()).isEqualTo("Bus");
+    }
+}
@@ -0,0 +1,44 @@
+package JavaProject.MoneyWise.services.impls;
+
+import JavaProject.MoneyWise.helper.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionCursorTest {
+
+    @Test
+    void cursorRoundTripsDateAndId() {
+        TransactionServiceImpl.Cursor last = new TransactionServiceImpl.Cursor(
+                LocalDateTime.of(2024, 3, 15, 10, 30, 5, 123_000_000), UUID.randomUUID());
+
+        TransactionServiceImpl.Cursor decoded = TransactionServiceImpl.decodeCursor(TransactionServiceImpl.encodeCursor(last));
+
+        assertThat(decoded).isEqualTo(last);
+    }
+
+    @Test
+    void cursorIsUrlSafeWithoutPadding() {
+        TransactionServiceImpl.Cursor last = new TransactionServiceImpl.Cursor(LocalDateTime.of(2024, 1, 1, 0, 0), UUID.randomUUID());
+
+        assertThat(TransactionServiceImpl.encodeCursor(last)).doesNotContain("+", "/", "=");
+    }
+
+    @Test
+    void malformedCursorIsAValidationError() {
+        assertThatThrownBy(() -> TransactionServiceImpl.decodeCursor("not a cursor!"))
+                .isInstanceOf(ValidationException.class);
+        String missingId = Base64.getUrlEncoder().encodeToString("2024-01-01T00:00".getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> TransactionServiceImpl.decodeCursor(missingId))
+                .isInstanceOf(ValidationException.class);
+        String badDate = Base64.getUrlEncoder().encodeToString(("yesterday|" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> TransactionServiceImpl.decodeCursor(badDate))
+                .isInstanceOf(ValidationException.class);
+    }
+}
@@ -0,0 +1,72 @@
+package JavaProject.MoneyWise.services.impls;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionImportServiceImplTest {
+
+    @Test
+    void parseDateAcceptsIsoLocalAndOfxFormats() {
+        assertThat(TransactionImportServiceImpl.parseDate("2024-01-05")).isEqualTo(LocalDateTime.of(2024, 1, 5, 0, 0));
+        assertThat(TransactionImportServiceImpl.parseDate("2024-01-05T08:30:00")).isEqualTo(LocalDateTime.of(2024, 1, 5, 8, 30));
+        assertThat(TransactionImportServiceImpl.parseDate("2024-01-05 08:30")).isEqualTo(LocalDateTime.of(2024, 1, 5, 8, 30));
+        assertThat(TransactionImportServiceImpl.parseDate("05/01/2024")).isEqualTo(LocalDateTime.of(2024, 1, 5, 0, 0));
+        assertThat(TransactionImportServiceImpl.parseDate("05/01/2024 08:30:15")).isEqualTo(LocalDateTime.of(2024, 1, 5, 8, 30, 15));
+        assertThat(TransactionImportServiceImpl.parseDate("20240105")).isEqualTo(LocalDateTime.of(2024, 1, 5, 0, 0));
+        assertThat(TransactionImportServiceImpl.parseDate("20240105083015.000[+7:ICT]")).isEqualTo(LocalDateTime.of(2024, 1, 5, 8, 30, 15));
+    }
+
+    @Test
+    void parseDateRejectsMissingAndUnknownFormats() {
+        assertThatThrownBy(() -> TransactionImportServiceImpl.parseDate(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TransactionImportServiceImpl.parseDate("Jan 5 2024")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TransactionImportServiceImpl.parseDate("2024-13-05")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void parseAmountWithDecimalPoint() {
+        assertThat(TransactionImportServiceImpl.parseAmount("12.50", '.')).isEqualByComparingTo("12.50");
+        assertThat(TransactionImportServiceImpl.parseAmount("-1,234.50", '.')).isEqualByComparingTo("-1234.50");
+        assertThat(TransactionImportServiceImpl.parseAmount("1 234 567", '.')).isEqualByComparingTo("1234567");
+        assertThat(TransactionImportServiceImpl.parseAmount("+100", '.')).isEqualByComparingTo("100");
+    }
+
+    @Test
+    void parseAmountWithDecimalComma() {
+        assertThat(TransactionImportServiceImpl.parseAmount("12,50", ',')).isEqualByComparingTo("12.50");
+        assertThat(TransactionImportServiceImpl.parseAmount("1.234,50", ',')).isEqualByComparingTo("1234.50");
+        assertThat(TransactionImportServiceImpl.parseAmount("-1\u00A0234,5", ',')).isEqualByComparingTo("-1234.5");
+    }
+
+    @Test
+    void parseAmountRejectsAmbiguousAndInvalidValues() {
+        assertThatThrownBy(() -> TransactionImportServiceImpl.parseAmount("12,50", '.'))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Ambiguous");
+        assertThatThrownBy(() -> TransactionImportServiceImpl.parseAmount("1.234,50", '.'))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Ambiguous");
+        assertThatThrownBy(() -> TransactionImportServiceImpl.parseAmount("12.5", ','))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Ambiguous");
+        assertThatThrownBy(() -> TransactionImportServiceImpl.parseAmount("1.2.3", '.'))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Invalid");
+        assertThatThrownBy(() -> TransactionImportServiceImpl.parseAmount("abc", '.'))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Invalid");
+        assertThatThrownBy(() -> TransactionImportServiceImpl.parseAmount(null, '.'))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void parseTypeUsesColumnOrSign() {
+        assertThat(TransactionImportServiceImpl.parseType(null, new BigDecimal("-1"))).isEqualTo("Expense");
+        assertThat(TransactionImportServiceImpl.parseType(null, new BigDecimal("1"))).isEqualTo("Income");
+        assertThat(TransactionImportServiceImpl.parseType(" Credit ", new BigDecimal("-1"))).isEqualTo("Income");
+        assertThat(TransactionImportServiceImpl.parseType("DEBIT", new BigDecimal("1"))).isEqualTo("Expense");
+        assertThat(TransactionImportServiceImpl.parseType("expense", new BigDecimal("1"))).isEqualTo("Expense");
+        assertThatThrownBy(() -> TransactionImportServiceImpl.parseType("transfer", BigDecimal.ONE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}